@@ -0,0 +1,74 @@
+package com.pullit.common.cache.serializer;
+
+import com.pullit.chapter.dto.response.LargeNode;
+import com.pullit.chapter.dto.response.MediumNode;
+import com.pullit.chapter.dto.response.SmallNode;
+import com.pullit.chapter.dto.response.TopicNode;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 default-typed JSON 직렬화기와 버전 헤더 Smile 직렬화기 비교
+ * 실행: ./gradlew jmh
+ * 크기(bytes)는 Setup 단계에서 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    @Param({"json", "smile"})
+    private String codec;
+
+    private RedisSerializer<Object> serializer;
+    private List<LargeNode> chapterTree;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        serializer = CacheSerializers.JSON.equals(codec)
+                ? CacheSerializers.legacyJsonSerializer()
+                : CacheSerializers.versioned(CacheSerializers.SMILE);
+        chapterTree = sampleChapterTree(8, 4, 4, 6);
+        encoded = serializer.serialize(chapterTree);
+        System.out.printf("%n[%s] chapter tree payload: %d bytes%n", codec, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(chapterTree);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    private static List<LargeNode> sampleChapterTree(int large, int medium, int small, int topic) {
+        List<LargeNode> tree = new ArrayList<>();
+        long id = 1;
+        for (int l = 0; l < large; l++) {
+            LargeNode largeNode = LargeNode.builder().id(id++).name("대단원 " + l).build();
+            for (int m = 0; m < medium; m++) {
+                MediumNode mediumNode = MediumNode.builder().id(id++).name("중단원 " + l + "-" + m).build();
+                for (int s = 0; s < small; s++) {
+                    SmallNode smallNode = SmallNode.builder().id(id++).name("소단원 " + l + "-" + m + "-" + s).build();
+                    for (int t = 0; t < topic; t++) {
+                        smallNode.getTopics().add(TopicNode.builder().id(id++).name("주제 " + t).build());
+                    }
+                    mediumNode.getChildren().add(smallNode);
+                }
+                largeNode.getChildren().add(mediumNode);
+            }
+            tree.add(largeNode);
+        }
+        return tree;
+    }
+}
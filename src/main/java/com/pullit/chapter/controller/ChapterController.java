@@ -1,19 +1,33 @@
 package com.pullit.chapter.controller;
 
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.pullit.auth.authentication.CustomUserDetails;
 import com.pullit.chapter.dto.response.ChapterResponse;
-import com.pullit.chapter.dto.response.LargeNode;
+import com.pullit.chapter.dto.response.ChapterSearchResponse;
 import com.pullit.chapter.service.ChapterService;
+import com.pullit.common.annotation.AuthUser;
+import com.pullit.common.annotation.CachedResponse;
 import com.pullit.common.dto.response.ApiResponse;
+import com.pullit.common.dto.response.PageResponse;
+import com.pullit.common.exception.BusinessException;
+import com.pullit.common.exception.ErrorCode;
 import com.pullit.item.entity.Subject;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.pullit.common.constants.CacheConstants.TAG_CHAPTER_RESPONSE;
 
 @RestController
 @RequestMapping("/api/chapter")
@@ -22,12 +36,32 @@ public class ChapterController {
     private final ChapterService chapterService;
 
     @GetMapping
+    @CachedResponse(ttl = 24, timeUnit = TimeUnit.HOURS, tags = TAG_CHAPTER_RESPONSE)
     @Operation(summary="챕터 리스트 전체", description = "챕터 리스트 전체")
     public ResponseEntity<ApiResponse<List<ChapterResponse>>> findAllChapterOnly(){
         List<ChapterResponse> chapters = chapterService.findAllChapterOnly();
         return ResponseEntity.ok(ApiResponse.success(chapters));
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "챕터 리스트 커서 조회", description = "교과서 > 단원 순 키셋 페이지네이션. 다음 페이지는 응답의 nextCursor로 요청")
+    public ResponseEntity<ApiResponse<PageResponse<ChapterResponse>>> findChapterPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        PageResponse<ChapterResponse> page = chapterService.findChapterPage(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "챕터 경로 검색", description = "단원 경로(대 > 중 > 소 > 주제)에 검색어가 포함된 단원. 자동완성용")
+    public ResponseEntity<ApiResponse<List<ChapterSearchResponse>>> searchChapters(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long subjectId,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ChapterSearchResponse> results = chapterService.searchChapters(query, subjectId, limit);
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
     @GetMapping("/{subjectId}")
     @Operation(summary="챕터 리스트 전체", description = "챕터 리스트 전체")
     public ResponseEntity<ApiResponse<List<ChapterResponse>>> findBySubjectId(@PathVariable Long subjectId){
@@ -37,9 +71,30 @@ public class ChapterController {
     }
 
     @GetMapping("/{subjectId}/tree")
-    @Operation(summary = "과목별 챕터 트리 조회")
-    public ResponseEntity<ApiResponse<List<LargeNode>>> getChapterTree(@PathVariable Long subjectId) {
-        var tree = chapterService.findTreeBySubjectId(subjectId);
+    @CachedResponse(ttl = 24, timeUnit = TimeUnit.HOURS, tags = TAG_CHAPTER_RESPONSE)
+    @Operation(summary = "과목별 챕터 트리 조회", description = "data: LargeNode 배열 (캐시된 JSON을 그대로 응답)")
+    public ResponseEntity<ApiResponse<RawValue>> getChapterTree(@PathVariable Long subjectId) {
+        RawValue tree = chapterService.findTreeJsonBySubjectId(subjectId);
         return ResponseEntity.ok(ApiResponse.success(tree));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{subjectId}/tree/stream")
+    @Operation(summary = "과목별 챕터 트리 스트리밍 조회", description = "대용량 교과서용. 응답 형식은 트리 조회와 동일")
+    public ResponseEntity<StreamingResponseBody> streamChapterTree(@PathVariable Long subjectId) {
+        StreamingResponseBody body = out -> chapterService.streamTreeBySubjectId(subjectId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @PostMapping("/changed")
+    @Operation(summary = "단원 변경 반영 (관리자)", description = "단원 데이터를 DB에 직접 적재/수정한 뒤 호출. subjectId가 없으면 전체 교과서의 단원 캐시와 인덱스를 갱신")
+    public ResponseEntity<ApiResponse<Void>> notifyChapterChanged(@AuthUser CustomUserDetails userDetails,
+                                                                  @RequestParam(required = false) Long subjectId) {
+        if (!userDetails.isAdmin()) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        chapterService.notifyChapterChanged(subjectId);
+        return ResponseEntity.ok(ApiResponse.successWithoutData("단원 변경이 반영되었습니다"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.pullit.chapter.dto.request;
+
+import com.pullit.chapter.dto.response.ChapterResponse;
+import com.pullit.common.exception.BusinessException;
+import com.pullit.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 단원 목록 키셋 페이지네이션 커서
+ * 정렬 키 (subject_id, large, medium, small, topic, id)의 마지막 값을 담는다.
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 토큰으로 전달한다.
+ */
+public record ChapterCursor(Long subjectId, Long largeChapterId, Long mediumChapterId,
+                            Long smallChapterId, Long topicChapterId, long id) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = ",";
+    private static final int FIELD_COUNT = 7;
+
+    public static ChapterCursor from(ChapterResponse last) {
+        return new ChapterCursor(last.getSubjectId(), last.getLargeChapterId(), last.getMediumChapterId(),
+                last.getSmallChapterId(), last.getTopicChapterId(), last.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION,
+                toToken(subjectId), toToken(largeChapterId), toToken(mediumChapterId),
+                toToken(smallChapterId), toToken(topicChapterId), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws BusinessException 형식이 잘못된 커서
+     */
+    public static ChapterCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, -1);
+            if (parts.length != FIELD_COUNT || !VERSION.equals(parts[0])) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.");
+            }
+            return new ChapterCursor(fromToken(parts[1]), fromToken(parts[2]), fromToken(parts[3]),
+                    fromToken(parts[4]), fromToken(parts[5]), Long.parseLong(parts[6]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.", e);
+        }
+    }
+
+    // null은 빈 문자열로 표현
+    private static String toToken(Long value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static Long fromToken(String token) {
+        return token.isEmpty() ? null : Long.valueOf(token);
+    }
+}
@@ -0,0 +1,19 @@
+package com.pullit.chapter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 교과서별 단원 수 집계 (ChapterRepository.countLevelsGroupBySubject 프로젝션)
+ * 단원 테이블은 소단원/주제 단위 행이므로 대/중/소/주제 단원 수는 코드의 DISTINCT 개수다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChapterLevelCount {
+    private Long subjectId;
+    private Long chapterCount;
+    private Long largeChapterCount;
+    private Long mediumChapterCount;
+    private Long smallChapterCount;
+    private Long topicChapterCount;
+}
@@ -6,6 +6,7 @@ import com.pullit.common.embedded.StringCodeNamePair;
 import com.pullit.item.embedded.CodeNamePair;
 import lombok.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -44,6 +45,20 @@ public class ChapterResponse {
     private String chapterPath;   // ex) "대단원 > 중단원 > 소단원 > 주제"
     private Integer chapterDepth; // 0~4
 
+    /** JPQL 생성자 프로젝션 (ChapterRepository.RESPONSE_COLUMNS 순서) */
+    public ChapterResponse(Long id, Long subjectId, String subjectName,
+                           String curriculumCode, String curriculumName,
+                           Long largeChapterId, String largeChapterName,
+                           Long mediumChapterId, String mediumChapterName,
+                           Long smallChapterId, String smallChapterName,
+                           Long topicChapterId, String topicChapterName) {
+        this(id, subjectId, subjectName, curriculumCode, curriculumName,
+                largeChapterId, largeChapterName, mediumChapterId, mediumChapterName,
+                smallChapterId, smallChapterName, topicChapterId, topicChapterName,
+                pathOf(largeChapterName, mediumChapterName, smallChapterName, topicChapterName),
+                depthOf(largeChapterId, mediumChapterId, smallChapterId, topicChapterId));
+    }
+
     /** 단일 매핑 */
     public static ChapterResponse from(Chapter c) {
         if (c == null) return null;
@@ -89,4 +104,18 @@ public class ChapterResponse {
     private static String nameOf(CodeNamePair pair) {
         return pair != null ? pair.getName() : null;
     }
+    // Chapter.getChapterPath()와 같은 규칙
+    private static String pathOf(String... names) {
+        return Arrays.stream(names)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" > "));
+    }
+    // Chapter.getChapterDepth()와 같은 규칙
+    private static int depthOf(Long large, Long medium, Long small, Long topic) {
+        if (topic != null) return 4;
+        if (small != null) return 3;
+        if (medium != null) return 2;
+        if (large != null) return 1;
+        return 0;
+    }
 }
\ No newline at end of file
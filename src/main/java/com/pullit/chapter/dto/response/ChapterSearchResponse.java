@@ -0,0 +1,19 @@
+package com.pullit.chapter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단원 경로 검색 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChapterSearchResponse {
+    private Long chapterId;
+    private Long subjectId;
+    private String chapterPath;   // ex) "대단원 > 중단원 > 소단원 > 주제"
+}
@@ -7,7 +7,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "chapters")
+@Table(name = "chapters", indexes = {
+        // V1__add_query_indexes.sql과 같은 이름 유지
+        @Index(name = "idx_chapters_subject_hierarchy",
+                columnList = "subject_id, large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
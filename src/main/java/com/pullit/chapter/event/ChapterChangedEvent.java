@@ -0,0 +1,17 @@
+package com.pullit.chapter.event;
+
+/**
+ * 단원 데이터 변경 이벤트
+ * 단원을 추가/수정/삭제하는 쪽에서 발행하면 단원 관련 캐시가 무효화된다.
+ * @param subjectId 변경된 교과서 ID, null이면 전체 교과서
+ */
+public record ChapterChangedEvent(Long subjectId) {
+
+    public static ChapterChangedEvent all() {
+        return new ChapterChangedEvent(null);
+    }
+
+    public boolean isAllSubjects() {
+        return subjectId == null;
+    }
+}
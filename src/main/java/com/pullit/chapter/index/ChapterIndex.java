@@ -0,0 +1,438 @@
+package com.pullit.chapter.index;
+
+import com.pullit.chapter.dto.response.LargeNode;
+import com.pullit.chapter.dto.response.MediumNode;
+import com.pullit.chapter.dto.response.SmallNode;
+import com.pullit.chapter.dto.response.TopicNode;
+import com.pullit.chapter.repository.ChapterJdbcRepository.ChapterIndexRow;
+import com.pullit.chapter.repository.ChapterJdbcRepository.ChapterTreeRow;
+
+import java.util.*;
+
+/**
+ * 전체 교과서 단원 계층의 읽기 전용 인덱스
+ * - 노드는 전위 순회 순서로 배치되며 한 노드의 하위 트리는 [i, subtreeEnds[i]) 구간에 연속으로 놓인다.
+ * - 단원명은 사전(names)에 한 번만 저장하고 노드는 사전 번호만 가진다.
+ * - 엔티티 없이 트리/경로/깊이/상위 단원 조회를 O(1)~O(k)로 처리한다.
+ * - 교과서별 단원은 트리 순서로 연속 구간에 놓여 교과서 단위 조회/교체가 그 교과서 단원 수에만 비례한다.
+ * 생성 후 변경되지 않으므로 여러 스레드에서 잠금 없이 읽을 수 있다.
+ */
+public final class ChapterIndex {
+
+    public static final int DEPTH_LARGE = 1;
+    public static final int DEPTH_MEDIUM = 2;
+    public static final int DEPTH_SMALL = 3;
+    public static final int DEPTH_TOPIC = 4;
+
+    private static final int NO_NODE = -1;
+    private static final String PATH_DELIMITER = " > ";
+
+    private final String[] names;
+    private final long[] codes;
+    private final int[] nameIds;
+    private final int[] parents;
+    private final byte[] depths;
+    private final int[] subtreeEnds;
+
+    // 교과서별 최상위(대단원) 노드 구간, subjectIds 오름차순
+    private final long[] subjectIds;
+    private final int[] subjectStarts;
+    private final int[] subjectEnds;
+
+    // 교과서별 단원 구간 (treeChapterIds[subjectChapterStarts[s], subjectChapterEnds[s]), 트리 순서)
+    private final long[] treeChapterIds;
+    private final int[] treeChapterNodes;
+    private final int[] subjectChapterStarts;
+    private final int[] subjectChapterEnds;
+
+    // 단원(chapters.id) -> 가장 깊은 노드, chapterIds 오름차순
+    private final long[] chapterIds;
+    private final int[] chapterNodes;
+
+    private ChapterIndex(Builder builder) {
+        int size = builder.size;
+        this.names = builder.names.toArray(new String[0]);
+        this.codes = Arrays.copyOf(builder.codes, size);
+        this.nameIds = Arrays.copyOf(builder.nameIds, size);
+        this.parents = Arrays.copyOf(builder.parents, size);
+        this.depths = Arrays.copyOf(builder.depths, size);
+        this.subtreeEnds = Arrays.copyOf(builder.subtreeEnds, size);
+
+        this.subjectIds = Arrays.copyOf(builder.subjectIds, builder.subjectCount);
+        this.subjectStarts = Arrays.copyOf(builder.subjectStarts, builder.subjectCount);
+        this.subjectEnds = Arrays.copyOf(builder.subjectEnds, builder.subjectCount);
+        this.subjectChapterStarts = Arrays.copyOf(builder.subjectChapterStarts, builder.subjectCount);
+        this.subjectChapterEnds = Arrays.copyOf(builder.subjectChapterEnds, builder.subjectCount);
+
+        int chapterCount = builder.chapterCount;
+        this.treeChapterIds = Arrays.copyOf(builder.chapterIds, chapterCount);
+        this.treeChapterNodes = Arrays.copyOf(builder.chapterNodes, chapterCount);
+
+        // 단원 ID 기준 정렬 (구성 시 한 번)
+        Integer[] order = new Integer[chapterCount];
+        for (int i = 0; i < chapterCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> builder.chapterIds[i]));
+        this.chapterIds = new long[chapterCount];
+        this.chapterNodes = new int[chapterCount];
+        for (int i = 0; i < chapterCount; i++) {
+            chapterIds[i] = builder.chapterIds[order[i]];
+            chapterNodes[i] = builder.chapterNodes[order[i]];
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static ChapterIndex empty() {
+        return new Builder().build();
+    }
+
+    /**
+     * 교과서의 단원 트리 (대 > 중 > 소 > 주제)
+     */
+    public List<LargeNode> tree(long subjectId) {
+        int s = Arrays.binarySearch(subjectIds, subjectId);
+        if (s < 0) {
+            return new ArrayList<>();
+        }
+        List<LargeNode> larges = new ArrayList<>();
+        for (int l = subjectStarts[s]; l < subjectEnds[s]; l = subtreeEnds[l]) {
+            LargeNode large = LargeNode.builder().id(codes[l]).name(nameOf(l)).children(new ArrayList<>()).build();
+            for (int m = l + 1; m < subtreeEnds[l]; m = subtreeEnds[m]) {
+                MediumNode medium = MediumNode.builder().id(codes[m]).name(nameOf(m)).children(new ArrayList<>()).build();
+                for (int sm = m + 1; sm < subtreeEnds[m]; sm = subtreeEnds[sm]) {
+                    SmallNode small = SmallNode.builder().id(codes[sm]).name(nameOf(sm)).topics(new ArrayList<>()).build();
+                    for (int t = sm + 1; t < subtreeEnds[sm]; t = subtreeEnds[t]) {
+                        small.getTopics().add(TopicNode.builder().id(codes[t]).name(nameOf(t)).build());
+                    }
+                    medium.getChildren().add(small);
+                }
+                large.getChildren().add(medium);
+            }
+            larges.add(large);
+        }
+        return larges;
+    }
+
+    /**
+     * 단원 경로 ("대단원 > 중단원 > 소단원 > 주제"), Chapter.getChapterPath()와 같은 형식
+     * @return 인덱스에 없는 단원이면 null
+     */
+    public String path(long chapterId) {
+        int node = nodeOf(chapterId);
+        if (node == NO_NODE) {
+            return null;
+        }
+        String[] parts = new String[depths[node]];
+        int count = 0;
+        for (int n = node; n != NO_NODE; n = parents[n]) {
+            String name = nameOf(n);
+            if (name != null) {
+                parts[count++] = name;
+            }
+        }
+        StringJoiner joiner = new StringJoiner(PATH_DELIMITER);
+        for (int i = count - 1; i >= 0; i--) {
+            joiner.add(parts[i]);
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 단원 깊이 (1~4), Chapter.getChapterDepth()와 같은 의미
+     * @return 인덱스에 없는 단원이면 0
+     */
+    public int depth(long chapterId) {
+        int node = nodeOf(chapterId);
+        return node == NO_NODE ? 0 : depths[node];
+    }
+
+    /**
+     * 대단원부터 자기 자신까지의 단원 코드
+     * @return 인덱스에 없는 단원이면 빈 배열
+     */
+    public long[] ancestorCodes(long chapterId) {
+        int node = nodeOf(chapterId);
+        if (node == NO_NODE) {
+            return new long[0];
+        }
+        long[] result = new long[depths[node]];
+        for (int n = node; n != NO_NODE; n = parents[n]) {
+            result[depths[n] - 1] = codes[n];
+        }
+        return result;
+    }
+
+    /**
+     * 특정 깊이의 상위 단원 코드 (예: 대단원 코드는 ancestorCode(id, DEPTH_LARGE))
+     * @return 해당 깊이의 상위 단원이 없으면 null
+     */
+    public Long ancestorCode(long chapterId, int depth) {
+        int node = nodeOf(chapterId);
+        if (node == NO_NODE || depth < DEPTH_LARGE || depth > depths[node]) {
+            return null;
+        }
+        int n = node;
+        while (depths[n] > depth) {
+            n = parents[n];
+        }
+        return codes[n];
+    }
+
+    /**
+     * 교과서에 속한 단원 ID 목록 (단원 ID 오름차순), 그 교과서 단원 수 k에 대해 O(k log k)
+     */
+    public long[] chapterIdsOf(long subjectId) {
+        int s = Arrays.binarySearch(subjectIds, subjectId);
+        if (s < 0) {
+            return new long[0];
+        }
+        long[] result = Arrays.copyOfRange(treeChapterIds, subjectChapterStarts[s], subjectChapterEnds[s]);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * 한 교과서만 replacement의 내용으로 바꾼 새 인덱스 (전체 테이블을 다시 읽지 않고 단원 변경 반영)
+     * @param replacement 바꿀 교과서의 단원만 담은 인덱스, 교과서가 없으면 해당 교과서를 제거
+     */
+    public ChapterIndex withSubject(long subjectId, ChapterIndex replacement) {
+        Builder builder = builder();
+        boolean replaced = false;
+        for (int s = 0; s < subjectIds.length; s++) {
+            if (!replaced && subjectIds[s] >= subjectId) {
+                replacement.replaySubject(subjectId, builder);
+                replaced = true;
+            }
+            if (subjectIds[s] != subjectId) {
+                replaySubject(subjectIds[s], builder);
+            }
+        }
+        if (!replaced) {
+            replacement.replaySubject(subjectId, builder);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 교과서의 단원을 원래 행 순서대로 builder에 다시 넣음
+     */
+    private void replaySubject(long subjectId, Builder builder) {
+        int s = Arrays.binarySearch(subjectIds, subjectId);
+        if (s < 0) {
+            return;
+        }
+        Long[] rowCodes = new Long[DEPTH_TOPIC + 1];
+        String[] rowNames = new String[DEPTH_TOPIC + 1];
+        for (int i = subjectChapterStarts[s]; i < subjectChapterEnds[s]; i++) {
+            Arrays.fill(rowCodes, null);
+            Arrays.fill(rowNames, null);
+            for (int n = treeChapterNodes[i]; n != NO_NODE; n = parents[n]) {
+                rowCodes[depths[n]] = codes[n];
+                rowNames[depths[n]] = nameOf(n);
+            }
+            builder.add(new ChapterIndexRow(treeChapterIds[i], subjectId, new ChapterTreeRow(
+                    rowCodes[DEPTH_LARGE], rowNames[DEPTH_LARGE],
+                    rowCodes[DEPTH_MEDIUM], rowNames[DEPTH_MEDIUM],
+                    rowCodes[DEPTH_SMALL], rowNames[DEPTH_SMALL],
+                    rowCodes[DEPTH_TOPIC], rowNames[DEPTH_TOPIC])));
+        }
+    }
+
+    /**
+     * 인덱스에 있는 교과서 ID 목록 (오름차순)
+     */
+    public long[] subjectIds() {
+        return subjectIds.clone();
+    }
+
+    public boolean contains(long chapterId) {
+        return nodeOf(chapterId) != NO_NODE;
+    }
+
+    public int nodeCount() {
+        return codes.length;
+    }
+
+    public int nameCount() {
+        return names.length;
+    }
+
+    public int subjectCount() {
+        return subjectIds.length;
+    }
+
+    public int chapterCount() {
+        return chapterIds.length;
+    }
+
+    private int nodeOf(long chapterId) {
+        int i = Arrays.binarySearch(chapterIds, chapterId);
+        return i < 0 ? NO_NODE : chapterNodes[i];
+    }
+
+    private String nameOf(int node) {
+        int nameId = nameIds[node];
+        return nameId == NO_NODE ? null : names[nameId];
+    }
+
+    /**
+     * 교과서 > 대 > 중 > 소 > 주제 순으로 정렬된 행을 받아 인덱스를 구성
+     * (ChapterJdbcRepository.forEachIndexRow 순서)
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Map<String, Integer> nameDictionary = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        private int size;
+        private long[] codes = new long[INITIAL_CAPACITY];
+        private int[] nameIds = new int[INITIAL_CAPACITY];
+        private int[] parents = new int[INITIAL_CAPACITY];
+        private byte[] depths = new byte[INITIAL_CAPACITY];
+        private int[] subtreeEnds = new int[INITIAL_CAPACITY];
+
+        private int subjectCount;
+        private long[] subjectIds = new long[16];
+        private int[] subjectStarts = new int[16];
+        private int[] subjectEnds = new int[16];
+        private int[] subjectChapterStarts = new int[16];
+        private int[] subjectChapterEnds = new int[16];
+
+        private int chapterCount;
+        private long[] chapterIds = new long[INITIAL_CAPACITY];
+        private int[] chapterNodes = new int[INITIAL_CAPACITY];
+
+        // 현재 열려 있는 노드 (깊이 1~4)
+        private final int[] openNodes = {NO_NODE, NO_NODE, NO_NODE, NO_NODE, NO_NODE};
+        private long currentSubjectId;
+        private boolean subjectOpen;
+
+        private Builder() {
+        }
+
+        public Builder add(ChapterIndexRow row) {
+            ChapterTreeRow tree = row.tree();
+            if (!subjectOpen || row.subjectId() != currentSubjectId) {
+                closeSubject();
+                openSubject(row.subjectId());
+            }
+            if (tree.largeId() == null) {
+                return this;
+            }
+
+            int node = open(DEPTH_LARGE, tree.largeId(), tree.largeName());
+            if (tree.mediumId() != null) {
+                node = open(DEPTH_MEDIUM, tree.mediumId(), tree.mediumName());
+                if (tree.smallId() != null) {
+                    node = open(DEPTH_SMALL, tree.smallId(), tree.smallName());
+                    if (tree.topicId() != null) {
+                        node = open(DEPTH_TOPIC, tree.topicId(), tree.topicName());
+                    }
+                }
+            }
+            addChapter(row.chapterId(), node);
+            return this;
+        }
+
+        public ChapterIndex build() {
+            closeSubject();
+            return new ChapterIndex(this);
+        }
+
+        /**
+         * 같은 부모 아래 직전 노드와 코드가 같으면 재사용, 다르면 하위 노드를 닫고 새로 연다.
+         */
+        private int open(int depth, long code, String name) {
+            int current = openNodes[depth];
+            if (current != NO_NODE && codes[current] == code) {
+                return current;
+            }
+            close(depth);
+
+            ensureNodeCapacity();
+            int node = size++;
+            codes[node] = code;
+            nameIds[node] = intern(name);
+            parents[node] = depth == DEPTH_LARGE ? NO_NODE : openNodes[depth - 1];
+            depths[node] = (byte) depth;
+            openNodes[depth] = node;
+            return node;
+        }
+
+        /**
+         * depth 이하의 열린 노드를 닫고 하위 트리 끝을 기록
+         */
+        private void close(int depth) {
+            for (int d = DEPTH_TOPIC; d >= depth; d--) {
+                if (openNodes[d] != NO_NODE) {
+                    subtreeEnds[openNodes[d]] = size;
+                    openNodes[d] = NO_NODE;
+                }
+            }
+        }
+
+        private void openSubject(long subjectId) {
+            if (subjectCount == subjectIds.length) {
+                int capacity = subjectCount * 2;
+                subjectIds = Arrays.copyOf(subjectIds, capacity);
+                subjectStarts = Arrays.copyOf(subjectStarts, capacity);
+                subjectEnds = Arrays.copyOf(subjectEnds, capacity);
+                subjectChapterStarts = Arrays.copyOf(subjectChapterStarts, capacity);
+                subjectChapterEnds = Arrays.copyOf(subjectChapterEnds, capacity);
+            }
+            subjectIds[subjectCount] = subjectId;
+            subjectStarts[subjectCount] = size;
+            subjectChapterStarts[subjectCount] = chapterCount;
+            currentSubjectId = subjectId;
+            subjectOpen = true;
+        }
+
+        private void closeSubject() {
+            if (!subjectOpen) {
+                return;
+            }
+            close(DEPTH_LARGE);
+            subjectEnds[subjectCount] = size;
+            subjectChapterEnds[subjectCount] = chapterCount;
+            subjectCount++;
+            subjectOpen = false;
+        }
+
+        private void addChapter(long chapterId, int node) {
+            if (chapterCount == chapterIds.length) {
+                chapterIds = Arrays.copyOf(chapterIds, chapterCount * 2);
+                chapterNodes = Arrays.copyOf(chapterNodes, chapterCount * 2);
+            }
+            chapterIds[chapterCount] = chapterId;
+            chapterNodes[chapterCount] = node;
+            chapterCount++;
+        }
+
+        private int intern(String name) {
+            if (name == null) {
+                return NO_NODE;
+            }
+            return nameDictionary.computeIfAbsent(name, key -> {
+                names.add(key);
+                return names.size() - 1;
+            });
+        }
+
+        private void ensureNodeCapacity() {
+            if (size < codes.length) {
+                return;
+            }
+            int capacity = size * 2;
+            codes = Arrays.copyOf(codes, capacity);
+            nameIds = Arrays.copyOf(nameIds, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            depths = Arrays.copyOf(depths, capacity);
+            subtreeEnds = Arrays.copyOf(subtreeEnds, capacity);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.pullit.chapter.index;
+
+import com.pullit.chapter.repository.ChapterJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * ChapterIndex 보관소
+ * 첫 조회 시 구성하고, 단원 변경 시 새 인덱스를 만든 뒤 참조만 교체한다.
+ * 교체 전까지 읽기 요청은 이전 인덱스를 그대로 사용한다.
+ * 노드마다 따로 가지는 인덱스이므로 다른 노드의 변경은 ChapterIndexSynchronizer 알림을 받은 뒤에 반영된다.
+ * 여러 노드가 함께 쓰는 캐시 값은 이 인덱스 대신 loadSubject로 MySQL에서 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChapterIndexHolder {
+
+    private final ChapterJdbcRepository chapterJdbcRepository;
+    private volatile ChapterIndex index;
+
+    public ChapterIndex current() {
+        ChapterIndex snapshot = index;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = index;
+                if (snapshot == null) {
+                    snapshot = build();
+                    index = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 인덱스 재구성 후 교체
+     */
+    public synchronized ChapterIndex rebuild() {
+        ChapterIndex snapshot = build();
+        index = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * 변경된 교과서만 MySQL에서 다시 읽어 교체 (나머지 교과서는 현재 인덱스에서 복사)
+     * @param subjectId null이면 전체 재구성
+     */
+    public synchronized ChapterIndex rebuild(Long subjectId) {
+        ChapterIndex current = index;
+        if (subjectId == null || current == null) {
+            return rebuild();
+        }
+        long start = System.currentTimeMillis();
+        ChapterIndex snapshot = current.withSubject(subjectId, loadSubject(subjectId));
+        index = snapshot;
+        log.info("단원 인덱스 교과서 갱신: subjectId={}, chapters={}, {}ms",
+                subjectId, snapshot.chapterCount(), System.currentTimeMillis() - start);
+        return snapshot;
+    }
+
+    /**
+     * 교과서 하나만 MySQL에서 읽어 구성 (보관 중인 인덱스는 바꾸지 않음)
+     * 공유 캐시(Redis)에 넣을 값은 노드별 인덱스가 늦게 갱신되어도 오래된 값이 들어가지 않도록 이것으로 만든다.
+     */
+    public ChapterIndex loadSubject(long subjectId) {
+        ChapterIndex.Builder builder = ChapterIndex.builder();
+        chapterJdbcRepository.forEachIndexRow(subjectId, builder::add);
+        return builder.build();
+    }
+
+    private ChapterIndex build() {
+        long start = System.currentTimeMillis();
+        ChapterIndex.Builder builder = ChapterIndex.builder();
+        chapterJdbcRepository.forEachIndexRow(builder::add);
+        ChapterIndex built = builder.build();
+        log.info("단원 인덱스 구성 완료: subjects={}, chapters={}, nodes={}, names={}, {}ms",
+                built.subjectCount(), built.chapterCount(), built.nodeCount(), built.nameCount(),
+                System.currentTimeMillis() - start);
+        return built;
+    }
+}
@@ -0,0 +1,88 @@
+package com.pullit.chapter.index;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 노드별 단원 인덱스(ChapterIndex, ChapterSearchIndex) 동기화
+ * 단원이 바뀐 노드는 자기 인덱스를 재구성한 뒤 Redis Pub/Sub으로 알리고,
+ * 다른 노드는 알림을 받아 자기 인덱스를 재구성한다. (L1 캐시 무효화와 같은 리스너 컨테이너 사용)
+ * 변경은 ChapterChangedEvent(ChapterService.notifyChapterChanged, POST /api/chapter/changed)로 시작된다.
+ */
+@Slf4j
+@Component
+public class ChapterIndexSynchronizer implements MessageListener {
+
+    static final String CHANNEL = "chapter:index:changed";
+    private static final String ALL_SUBJECTS = "*";
+    private static final String MESSAGE_DELIMITER = "|";
+
+    private final ChapterIndexHolder chapterIndexHolder;
+    private final ChapterSearchIndex chapterSearchIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ChapterIndexSynchronizer(ChapterIndexHolder chapterIndexHolder,
+                                    ChapterSearchIndex chapterSearchIndex,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    RedisMessageListenerContainer nearCacheListenerContainer) {
+        this.chapterIndexHolder = chapterIndexHolder;
+        this.chapterSearchIndex = chapterSearchIndex;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = nearCacheListenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 이 노드의 인덱스를 재구성하고 다른 노드에 알림
+     * @param subjectId 변경된 교과서 ID, null이면 전체 교과서
+     */
+    public void changed(Long subjectId) {
+        apply(subjectId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId + MESSAGE_DELIMITER
+                    + (subjectId == null ? ALL_SUBJECTS : subjectId.toString()));
+        } catch (Exception e) {
+            log.error("단원 인덱스 변경 알림 발행 실패: subjectId={}", subjectId, e);
+        }
+    }
+
+    /**
+     * 다른 노드의 변경 알림 수신
+     * 메시지 형식: {nodeId}|{교과서 ID 또는 *}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(Pattern.quote(MESSAGE_DELIMITER), 2);
+        if (parts.length != 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            apply(ALL_SUBJECTS.equals(parts[1]) ? null : Long.valueOf(parts[1]));
+            log.info("단원 인덱스 변경 알림 반영: subjectId={}", parts[1]);
+        } catch (RuntimeException e) {
+            log.error("단원 인덱스 변경 알림 반영 실패: message={}", body, e);
+        }
+    }
+
+    private void apply(Long subjectId) {
+        chapterIndexHolder.rebuild(subjectId);
+        chapterSearchIndex.refresh(subjectId);
+    }
+}
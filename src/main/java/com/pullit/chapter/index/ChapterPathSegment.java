@@ -0,0 +1,233 @@
+package com.pullit.chapter.index;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * 교과서 하나의 단원 경로 n-gram 역색인 (읽기 전용)
+ * - 문서: 단원 하나 (경로 문자열), 교과서 내 순번으로 식별
+ * - 토큰: 정규화한 경로의 1-gram/2-gram (한글 검색에 적합)
+ * - 포스팅: 하나의 int[]에 n-gram별로 연속 저장, 각 목록은 차분(delta) 인코딩
+ */
+final class ChapterPathSegment {
+
+    private final long subjectId;
+    private final long[] chapterIds;
+    private final String[] paths;
+    private final String[] normalizedPaths;
+
+    private final int[] gramKeys;     // 오름차순
+    private final int[] gramOffsets;  // gramKeys[i]의 포스팅 = postings[gramOffsets[i], gramOffsets[i + 1])
+    private final int[] postings;
+
+    private ChapterPathSegment(long subjectId, long[] chapterIds, String[] paths) {
+        this.subjectId = subjectId;
+        this.chapterIds = chapterIds;
+        this.paths = paths;
+        this.normalizedPaths = new String[paths.length];
+
+        // (n-gram, 문서) 쌍을 long 하나로 묶어 정렬 후 중복 제거
+        long[] pairs = new long[16];
+        int pairCount = 0;
+        for (int doc = 0; doc < paths.length; doc++) {
+            String text = normalize(paths[doc]);
+            normalizedPaths[doc] = text;
+            for (int i = 0; i < text.length(); i++) {
+                if (pairCount + 2 > pairs.length) {
+                    pairs = Arrays.copyOf(pairs, pairs.length * 2);
+                }
+                pairs[pairCount++] = pack(unigram(text.charAt(i)), doc);
+                if (i + 1 < text.length()) {
+                    pairs[pairCount++] = pack(bigram(text.charAt(i), text.charAt(i + 1)), doc);
+                }
+            }
+        }
+        Arrays.sort(pairs, 0, pairCount);
+
+        int[] keys = new int[pairCount];
+        int[] offsets = new int[pairCount + 1];
+        int[] encoded = new int[pairCount];
+        int keyCount = 0;
+        int postingCount = 0;
+        long previous = Long.MIN_VALUE;
+        int previousDoc = 0;
+        for (int i = 0; i < pairCount; i++) {
+            long pair = pairs[i];
+            if (pair == previous) {
+                continue;
+            }
+            int gram = (int) (pair >> 32);
+            int doc = (int) pair;
+            if (keyCount == 0 || keys[keyCount - 1] != gram) {
+                keys[keyCount] = gram;
+                offsets[keyCount] = postingCount;
+                keyCount++;
+                previousDoc = 0;
+            }
+            encoded[postingCount++] = doc - previousDoc;
+            previousDoc = doc;
+            previous = pair;
+        }
+        offsets[keyCount] = postingCount;
+
+        this.gramKeys = Arrays.copyOf(keys, keyCount);
+        this.gramOffsets = Arrays.copyOf(offsets, keyCount + 1);
+        this.postings = Arrays.copyOf(encoded, postingCount);
+    }
+
+    static ChapterPathSegment build(ChapterIndex index, long subjectId) {
+        long[] chapterIds = index.chapterIdsOf(subjectId);
+        String[] paths = new String[chapterIds.length];
+        for (int i = 0; i < chapterIds.length; i++) {
+            paths[i] = index.path(chapterIds[i]);
+        }
+        return new ChapterPathSegment(subjectId, chapterIds, paths);
+    }
+
+    long subjectId() {
+        return subjectId;
+    }
+
+    int size() {
+        return chapterIds.length;
+    }
+
+    /**
+     * 정규화된 질의를 포함하는 문서를 순서대로 찾아 collector에 전달
+     * collector가 false를 반환하면 중단한다.
+     */
+    void search(String normalizedQuery, IntPredicate collector) {
+        if (normalizedQuery.isEmpty()) {
+            return;
+        }
+        int[] grams = queryGrams(normalizedQuery);
+        int[] lists = new int[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            int k = Arrays.binarySearch(gramKeys, grams[i]);
+            if (k < 0) {
+                return;
+            }
+            lists[i] = k;
+        }
+        // 가장 짧은 포스팅 목록부터 교집합
+        Integer[] order = new Integer[lists.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = lists[i];
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(postingLength(a), postingLength(b)));
+
+        int[] candidates = decode(order[0]);
+        int candidateCount = candidates.length;
+        for (int i = 1; i < order.length && candidateCount > 0; i++) {
+            candidateCount = intersect(candidates, candidateCount, order[i]);
+        }
+
+        // n-gram 교집합은 후보일 뿐이므로 실제 포함 여부 확인
+        for (int i = 0; i < candidateCount; i++) {
+            int doc = candidates[i];
+            if (normalizedPaths[doc].contains(normalizedQuery) && !collector.test(doc)) {
+                return;
+            }
+        }
+    }
+
+    long chapterIdAt(int doc) {
+        return chapterIds[doc];
+    }
+
+    String pathAt(int doc) {
+        return paths[doc];
+    }
+
+    /**
+     * 공백/구분자 제거 후 소문자화 (경로 "대단원 > 중단원"과 질의 "대단원중" 모두 같은 형태로)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private int[] queryGrams(String query) {
+        if (query.length() == 1) {
+            return new int[]{unigram(query.charAt(0))};
+        }
+        int[] grams = new int[query.length() - 1];
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams[i] = bigram(query.charAt(i), query.charAt(i + 1));
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private int postingLength(int key) {
+        return gramOffsets[key + 1] - gramOffsets[key];
+    }
+
+    private int[] decode(int key) {
+        int start = gramOffsets[key];
+        int[] docs = new int[postingLength(key)];
+        int doc = 0;
+        for (int i = 0; i < docs.length; i++) {
+            doc += postings[start + i];
+            docs[i] = doc;
+        }
+        return docs;
+    }
+
+    /**
+     * candidates[0, count)와 key 포스팅의 교집합을 candidates 앞쪽에 다시 기록
+     */
+    private int intersect(int[] candidates, int count, int key) {
+        int position = gramOffsets[key];
+        int end = gramOffsets[key + 1];
+        int doc = position < end ? postings[position] : 0;
+        int kept = 0;
+        int i = 0;
+        while (i < count && position < end) {
+            if (doc < candidates[i]) {
+                position++;
+                if (position < end) {
+                    doc += postings[position];
+                }
+            } else if (doc > candidates[i]) {
+                i++;
+            } else {
+                candidates[kept++] = doc;
+                i++;
+                position++;
+                if (position < end) {
+                    doc += postings[position];
+                }
+            }
+        }
+        return kept;
+    }
+
+    // 1-gram 키는 0~65535, 2-gram 키는 상위 16비트가 첫 글자(0 아님)이므로 겹치지 않음
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static long pack(int gram, int doc) {
+        return ((long) gram << 32) | (doc & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,115 @@
+package com.pullit.chapter.index;
+
+import com.pullit.chapter.dto.response.ChapterSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 단원 경로 검색 (프로세스 내 n-gram 역색인)
+ * 교과서별 세그먼트로 나누어 두고, 단원 변경 시 해당 교과서 세그먼트만 다시 만들어 교체한다.
+ * 검색은 MySQL을 거치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChapterSearchIndex {
+
+    private final ChapterIndexHolder chapterIndexHolder;
+
+    // 교과서 ID -> 세그먼트 (교체 시 새 맵으로 바꿔 끼움)
+    private volatile Map<Long, ChapterPathSegment> segments;
+
+    /**
+     * 단원 경로 검색
+     * @param subjectId null이면 전체 교과서
+     * @param limit 최대 결과 수
+     */
+    public List<ChapterSearchResponse> search(String query, Long subjectId, int limit) {
+        String normalized = ChapterPathSegment.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, ChapterPathSegment> snapshot = segments();
+        List<ChapterSearchResponse> results = new ArrayList<>();
+        Iterable<ChapterPathSegment> targets = subjectId == null
+                ? snapshot.values()
+                : singletonOrEmpty(snapshot.get(subjectId));
+        for (ChapterPathSegment segment : targets) {
+            segment.search(normalized, doc -> {
+                results.add(ChapterSearchResponse.builder()
+                        .chapterId(segment.chapterIdAt(doc))
+                        .subjectId(segment.subjectId())
+                        .chapterPath(segment.pathAt(doc))
+                        .build());
+                return results.size() < limit;
+            });
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 변경된 교과서 세그먼트만 다시 구성 (ChapterIndex가 먼저 재구성되어 있어야 함)
+     * 그 교과서 단원 수에만 비례하며, 다른 노드의 변경은 ChapterIndexSynchronizer가 이 메서드로 반영한다.
+     * @param subjectId null이면 전체 재구성
+     */
+    public synchronized void refresh(Long subjectId) {
+        if (segments == null) {
+            return;  // 아직 한 번도 검색되지 않았으면 첫 검색 시 구성
+        }
+        if (subjectId == null) {
+            segments = buildAll();
+            return;
+        }
+
+        ChapterIndex index = chapterIndexHolder.current();
+        Map<Long, ChapterPathSegment> updated = new TreeMap<>(segments);
+        ChapterPathSegment segment = ChapterPathSegment.build(index, subjectId);
+        if (segment.size() == 0) {
+            updated.remove(subjectId);
+        } else {
+            updated.put(subjectId, segment);
+        }
+        segments = Collections.unmodifiableMap(updated);
+        log.info("단원 검색 색인 갱신: subjectId={}, chapters={}", subjectId, segment.size());
+    }
+
+    private Map<Long, ChapterPathSegment> segments() {
+        Map<Long, ChapterPathSegment> snapshot = segments;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = segments;
+                if (snapshot == null) {
+                    snapshot = buildAll();
+                    segments = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private Map<Long, ChapterPathSegment> buildAll() {
+        long start = System.currentTimeMillis();
+        ChapterIndex index = chapterIndexHolder.current();
+        Map<Long, ChapterPathSegment> built = new TreeMap<>();
+        for (long subjectId : index.subjectIds()) {
+            built.put(subjectId, ChapterPathSegment.build(index, subjectId));
+        }
+        log.info("단원 검색 색인 구성 완료: subjects={}, {}ms", built.size(), System.currentTimeMillis() - start);
+        return Collections.unmodifiableMap(built);
+    }
+
+    private static Iterable<ChapterPathSegment> singletonOrEmpty(ChapterPathSegment segment) {
+        return segment == null ? List.of() : List.of(segment);
+    }
+}
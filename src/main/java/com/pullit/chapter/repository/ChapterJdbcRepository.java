@@ -0,0 +1,121 @@
+package com.pullit.chapter.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * 엔티티를 거치지 않는 단원 조회 (JDBC)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChapterJdbcRepository {
+
+    // ChapterRepository.findBySubject_SubjectIdOrderBy...와 같은 정렬
+    private static final String SELECT_TREE_ROWS = """
+            SELECT large_chapter_id, large_chapter_name,
+                   medium_chapter_id, medium_chapter_name,
+                   small_chapter_id, small_chapter_name,
+                   topic_chapter_id, topic_chapter_name
+            FROM chapters
+            WHERE subject_id = ?
+            ORDER BY large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id
+            """;
+
+    private static final String SELECT_INDEX_ROWS = """
+            SELECT id, subject_id,
+                   large_chapter_id, large_chapter_name,
+                   medium_chapter_id, medium_chapter_name,
+                   small_chapter_id, small_chapter_name,
+                   topic_chapter_id, topic_chapter_name
+            FROM chapters
+            WHERE subject_id IS NOT NULL
+            ORDER BY subject_id, large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id
+            """;
+
+    private static final String SELECT_SUBJECT_INDEX_ROWS = """
+            SELECT id, subject_id,
+                   large_chapter_id, large_chapter_name,
+                   medium_chapter_id, medium_chapter_name,
+                   small_chapter_id, small_chapter_name,
+                   topic_chapter_id, topic_chapter_name
+            FROM chapters
+            WHERE subject_id = ?
+            ORDER BY large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id
+            """;
+
+    // MySQL Connector/J: 전방 전용 + 읽기 전용 + Integer.MIN_VALUE면 행 단위 스트리밍
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 교과서의 단원 행을 트리 순서대로 한 행씩 전달 (결과 전체를 메모리에 올리지 않음)
+     */
+    public void forEachTreeRow(Long subjectId, Consumer<ChapterTreeRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_TREE_ROWS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            ps.setLong(1, subjectId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(ChapterTreeRow.from(rs, 1)));
+    }
+
+    /**
+     * 전체 교과서의 단원 행을 교과서 > 트리 순서대로 한 행씩 전달 (ChapterIndex 구성용)
+     */
+    public void forEachIndexRow(Consumer<ChapterIndexRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_INDEX_ROWS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ChapterIndexRow(
+                rs.getLong(1), rs.getLong(2), ChapterTreeRow.from(rs, 3))));
+    }
+
+    /**
+     * 교과서 하나의 단원 행을 트리 순서대로 한 행씩 전달 (교과서 단위 ChapterIndex 구성용)
+     */
+    public void forEachIndexRow(Long subjectId, Consumer<ChapterIndexRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SUBJECT_INDEX_ROWS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            ps.setLong(1, subjectId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ChapterIndexRow(
+                rs.getLong(1), rs.getLong(2), ChapterTreeRow.from(rs, 3))));
+    }
+
+    /**
+     * 단원 트리 한 행 (대 > 중 > 소 > 주제)
+     */
+    public record ChapterTreeRow(Long largeId, String largeName,
+                                 Long mediumId, String mediumName,
+                                 Long smallId, String smallName,
+                                 Long topicId, String topicName) {
+
+        static ChapterTreeRow from(ResultSet rs, int firstColumn) throws SQLException {
+            int c = firstColumn;
+            return new ChapterTreeRow(
+                    rs.getObject(c, Long.class), rs.getString(c + 1),
+                    rs.getObject(c + 2, Long.class), rs.getString(c + 3),
+                    rs.getObject(c + 4, Long.class), rs.getString(c + 5),
+                    rs.getObject(c + 6, Long.class), rs.getString(c + 7));
+        }
+    }
+
+    /**
+     * 단원 인덱스 구성용 한 행 (단원 ID, 교과서 ID, 계층)
+     */
+    public record ChapterIndexRow(long chapterId, long subjectId, ChapterTreeRow tree) {
+    }
+}
@@ -1,15 +1,77 @@
 package com.pullit.chapter.repository;
 
+import com.pullit.chapter.dto.response.ChapterLevelCount;
+import com.pullit.chapter.dto.response.ChapterResponse;
 import com.pullit.chapter.entity.Chapter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ChapterRepository extends JpaRepository<Chapter, Integer> {
+public interface ChapterRepository extends JpaRepository<Chapter, Integer>, ChapterRepositoryCustom {
+
+    // ChapterResponse 프로젝션 생성자 인자 순서
+    String RESPONSE_COLUMNS = "c.id, c.subject.subjectId, c.subjectName, " +
+            "c.curriculum.code, c.curriculum.name, " +
+            "c.largeChapter.code, c.largeChapter.name, " +
+            "c.mediumChapter.code, c.mediumChapter.name, " +
+            "c.smallChapter.code, c.smallChapter.name, " +
+            "c.topicChapter.code, c.topicChapter.name";
+
     List<Chapter> findBySubject_SubjectId(Long subjectId);
 
     List<Chapter> findBySubject_SubjectIdOrderByLargeChapter_CodeAscMediumChapter_CodeAscSmallChapter_CodeAscTopicChapter_CodeAsc(Long subjectId);
 
+    @Query("SELECT DISTINCT c.subject.subjectId FROM Chapter c WHERE c.subject IS NOT NULL")
+    List<Long> findDistinctSubjectIds();
+
+    /**
+     * 단원 목록 DTO 프로젝션 (Subject 프록시 초기화 없이 FK 컬럼만 조회)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.pullit.chapter.dto.response.ChapterResponse(" + RESPONSE_COLUMNS + ") " +
+            "FROM Chapter c " +
+            "ORDER BY c.id")
+    List<ChapterResponse> findAllResponses();
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.pullit.chapter.dto.response.ChapterResponse(" + RESPONSE_COLUMNS + ") " +
+            "FROM Chapter c " +
+            "WHERE c.subject.subjectId = :subjectId " +
+            "ORDER BY c.id")
+    List<ChapterResponse> findResponsesBySubjectId(@Param("subjectId") Long subjectId);
+
+    /**
+     * 교과서별 단원 수 집계 (idx_chapters_subject_hierarchy 인덱스만으로 처리)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.pullit.chapter.dto.response.ChapterLevelCount(" +
+            "c.subject.subjectId, COUNT(c), " +
+            "COUNT(DISTINCT c.largeChapter.code), COUNT(DISTINCT c.mediumChapter.code), " +
+            "COUNT(DISTINCT c.smallChapter.code), COUNT(DISTINCT c.topicChapter.code)) " +
+            "FROM Chapter c " +
+            "WHERE c.subject IS NOT NULL " +
+            "GROUP BY c.subject.subjectId")
+    List<ChapterLevelCount> countLevelsGroupBySubject();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.pullit.chapter.dto.response.ChapterLevelCount(" +
+            "c.subject.subjectId, COUNT(c), " +
+            "COUNT(DISTINCT c.largeChapter.code), COUNT(DISTINCT c.mediumChapter.code), " +
+            "COUNT(DISTINCT c.smallChapter.code), COUNT(DISTINCT c.topicChapter.code)) " +
+            "FROM Chapter c " +
+            "WHERE c.subject.subjectId = :subjectId " +
+            "GROUP BY c.subject.subjectId")
+    Optional<ChapterLevelCount> countLevelsBySubjectId(@Param("subjectId") Long subjectId);
+
 }
@@ -0,0 +1,16 @@
+package com.pullit.chapter.repository;
+
+import com.pullit.chapter.dto.request.ChapterCursor;
+import com.pullit.chapter.dto.response.ChapterResponse;
+
+import java.util.List;
+
+public interface ChapterRepositoryCustom {
+
+    /**
+     * 키셋 페이지 조회 (subject_id, large, medium, small, topic, id 순)
+     * @param cursor 직전 페이지의 마지막 행, null이면 첫 페이지
+     * @param limit 조회할 최대 행 수
+     */
+    List<ChapterResponse> findResponsesAfter(ChapterCursor cursor, int limit);
+}
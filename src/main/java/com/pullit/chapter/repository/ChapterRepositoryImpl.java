@@ -0,0 +1,91 @@
+package com.pullit.chapter.repository;
+
+import com.pullit.chapter.dto.request.ChapterCursor;
+import com.pullit.chapter.dto.response.ChapterResponse;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.pullit.chapter.entity.QChapter.chapter;
+
+@RequiredArgsConstructor
+public class ChapterRepositoryImpl implements ChapterRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChapterResponse> findResponsesAfter(ChapterCursor cursor, int limit) {
+        return queryFactory
+                .select(Projections.constructor(ChapterResponse.class,
+                        chapter.id, chapter.subject.subjectId, chapter.subjectName,
+                        chapter.curriculum.code, chapter.curriculum.name,
+                        chapter.largeChapter.code, chapter.largeChapter.name,
+                        chapter.mediumChapter.code, chapter.mediumChapter.name,
+                        chapter.smallChapter.code, chapter.smallChapter.name,
+                        chapter.topicChapter.code, chapter.topicChapter.name))
+                .from(chapter)
+                .where(after(cursor))
+                .orderBy(chapter.subject.subjectId.asc(),
+                        chapter.largeChapter.code.asc(),
+                        chapter.mediumChapter.code.asc(),
+                        chapter.smallChapter.code.asc(),
+                        chapter.topicChapter.code.asc(),
+                        chapter.id.asc())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 커서 이후 조건
+     * (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ... 형태로 펼쳐 복합 인덱스 범위 탐색이 되도록 한다.
+     * MySQL 오름차순 정렬은 NULL이 먼저 오므로 v가 null이면 "k > v"는 "k IS NOT NULL", "k = v"는 "k IS NULL"이다.
+     */
+    private Predicate after(ChapterCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        List<NumberPath<Long>> keys = List.of(
+                chapter.subject.subjectId,
+                chapter.largeChapter.code,
+                chapter.mediumChapter.code,
+                chapter.smallChapter.code,
+                chapter.topicChapter.code,
+                chapter.id);
+        List<Long> values = Arrays.asList(
+                cursor.subjectId(),
+                cursor.largeChapterId(),
+                cursor.mediumChapterId(),
+                cursor.smallChapterId(),
+                cursor.topicChapterId(),
+                cursor.id());
+
+        BooleanBuilder disjunction = new BooleanBuilder();
+        BooleanBuilder prefix = new BooleanBuilder();
+        for (int i = 0; i < keys.size(); i++) {
+            NumberPath<Long> key = keys.get(i);
+            Long value = values.get(i);
+            disjunction.or(new BooleanBuilder(prefix).and(greaterThan(key, value)));
+            prefix.and(equalTo(key, value));
+        }
+        return disjunction;
+    }
+
+    private static BooleanExpression greaterThan(NumberPath<Long> key, Long value) {
+        return value == null ? key.isNotNull() : key.gt(value);
+    }
+
+    private static BooleanExpression equalTo(NumberPath<Long> key, Long value) {
+        return value == null ? key.isNull() : key.eq(value);
+    }
+}
@@ -1,10 +1,15 @@
 package com.pullit.chapter.service;
 
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.pullit.chapter.dto.response.ChapterResponse;
+import com.pullit.chapter.dto.response.ChapterSearchResponse;
 import com.pullit.chapter.dto.response.LargeNode;
 import com.pullit.chapter.entity.Chapter;
+import com.pullit.common.dto.response.PageResponse;
 import com.pullit.item.entity.Subject;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ChapterService {
@@ -13,4 +18,43 @@ public interface ChapterService {
     List<ChapterResponse> findBySubjectId(Long subjectId);
     List<LargeNode> findTreeBySubjectId(Long subjectId);
 
+    /**
+     * 단원 경로 검색 (메모리 n-gram 색인, DB 미조회)
+     * @param subjectId null이면 전체 교과서
+     */
+    List<ChapterSearchResponse> searchChapters(String query, Long subjectId, int limit);
+
+    /**
+     * 단원 목록 커서(키셋) 페이지 조회
+     * @param cursor 이전 응답의 nextCursor, null이면 첫 페이지
+     */
+    PageResponse<ChapterResponse> findChapterPage(String cursor, int size);
+
+    /**
+     * 단원 트리를 직렬화된 JSON 그대로 반환 (캐시 히트 시 DB 조회/트리 구성/직렬화 생략)
+     */
+    RawValue findTreeJsonBySubjectId(Long subjectId);
+
+    /**
+     * 단원 트리를 DB 커서에서 읽으며 바로 출력 (ApiResponse 형식, 캐시 미사용)
+     */
+    void streamTreeBySubjectId(Long subjectId, OutputStream out) throws IOException;
+
+    /**
+     * 단원 데이터 변경 알림 (단원을 DB에 직접 적재/수정한 뒤 호출)
+     * ChapterChangedEvent를 발행하여 단원 캐시, 교과서 통계, 노드별 단원 인덱스를 갱신한다.
+     * @param subjectId 변경된 교과서 ID, null이면 전체 교과서
+     */
+    void notifyChapterChanged(Long subjectId);
+
+    /**
+     * 교과서별 단원 캐시 무효화
+     */
+    void evictChapterCache(Long subjectId);
+
+    /**
+     * 전체 단원 캐시 무효화
+     */
+    void evictAllChapterCaches();
+
 }
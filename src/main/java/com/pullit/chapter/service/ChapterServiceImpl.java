@@ -1,20 +1,57 @@
 package com.pullit.chapter.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.pullit.chapter.dto.request.ChapterCursor;
 import com.pullit.chapter.dto.response.*;
+import com.pullit.chapter.event.ChapterChangedEvent;
+import com.pullit.chapter.index.ChapterIndexHolder;
+import com.pullit.chapter.index.ChapterIndexSynchronizer;
+import com.pullit.chapter.index.ChapterSearchIndex;
 import com.pullit.chapter.repository.ChapterRepository;
 import com.pullit.chapter.entity.Chapter;
+import com.pullit.common.cache.service.CacheService;
+import com.pullit.common.cache.warmup.CacheWarmer;
+import com.pullit.common.dto.response.PageResponse;
+import com.pullit.common.exception.BusinessException;
+import com.pullit.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import static com.pullit.common.constants.CacheConstants.*;
+
+@Slf4j
 @RequiredArgsConstructor
 @Service
-public class ChapterServiceImpl implements ChapterService {
+public class ChapterServiceImpl implements ChapterService, CacheWarmer {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final TypeReference<List<LargeNode>> LARGE_NODE_LIST = new TypeReference<>() {};
+    // /api/chapter 하위 @CachedResponse 응답 바이트 (태그 등록 전에 저장된 응답까지 지우는 전체 무효화용)
+    private static final String CHAPTER_RESPONSE_PATTERN = KEY_PREFIX_RESPONSE + "/api/chapter" + KEY_WILDCARD;
+
     private final ChapterRepository chapterRepository;
+    private final CacheService cacheService;
+    private final ObjectMapper objectMapper;
+    private final ChapterTreeStreamWriter chapterTreeStreamWriter;
+    private final ChapterIndexHolder chapterIndexHolder;
+    private final ChapterIndexSynchronizer chapterIndexSynchronizer;
+    private final ChapterSearchIndex chapterSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<Chapter> findAll() {
@@ -23,77 +60,137 @@ public class ChapterServiceImpl implements ChapterService {
 
     @Override
     public List<ChapterResponse> findAllChapterOnly() {
-        return chapterRepository.findAll().stream()
-                .map(ChapterResponse::from)
-                .toList();
+        return chapterRepository.findAllResponses();
+    }
+
+    @Override
+    public List<ChapterSearchResponse> searchChapters(String query, Long subjectId, int limit) {
+        return chapterSearchIndex.search(query, subjectId, Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT));
     }
 
     @Override
+    public PageResponse<ChapterResponse> findChapterPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ChapterCursor after = (cursor == null || cursor.isBlank()) ? null : ChapterCursor.decode(cursor);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<ChapterResponse> rows = chapterRepository.findResponsesAfter(after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ChapterResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? ChapterCursor.from(content.get(content.size() - 1)).encode() : null;
+        return PageResponse.ofCursor(content, pageSize, after == null, nextCursor);
+    }
 
+    @Override
+    @SuppressWarnings("unchecked")
     public List<ChapterResponse> findBySubjectId(Long subjectId) {
-        return chapterRepository.findBySubject_SubjectId(subjectId).stream()
-                .map(ChapterResponse::from)
-                .toList();
+        return cacheService.getOrElse(KEY_PREFIX_CHAPTER_BY_SUBJECT + subjectId,
+                REFERENCE_TTL_SECONDS, TimeUnit.SECONDS, () -> loadBySubjectId(subjectId), List.class);
     }
 
     @Override
     public List<LargeNode> findTreeBySubjectId(Long subjectId) {
-        List<Chapter> rows = chapterRepository.findBySubject_SubjectIdOrderByLargeChapter_CodeAscMediumChapter_CodeAscSmallChapter_CodeAscTopicChapter_CodeAsc(subjectId);
-        // 중/소는 (부모-자식 연결을 위해) 맵만 보조적으로 씁니다.
-        Map<Long, LargeNode> largeMap = new LinkedHashMap<>();
-        Map<Long, MediumNode> mediumMap = new LinkedHashMap<>();
-        Map<Long, SmallNode> smallMap  = new LinkedHashMap<>();
-
-        for (Chapter c : rows) {
-            if (c.getLargeChapter() == null || c.getLargeChapter().getCode() == null) {
-                continue;
-            }
-            Long lId = c.getLargeChapter().getCode();
-            LargeNode l = largeMap.get(lId);
-            if (l == null) {
-                l = LargeNode.builder()
-                        .id(lId)
-                        .name(c.getLargeChapter().getName())
-                        .children(new ArrayList<>())
-                        .build();
-                largeMap.put(lId, l);
-            }
-
-            if (c.getMediumChapter() != null && c.getMediumChapter().getCode() != null) {
-                Long mId = c.getMediumChapter().getCode();
-                MediumNode m = mediumMap.get(mId);
-                if (m == null) {
-                    m = MediumNode.builder()
-                            .id(mId)
-                            .name(c.getMediumChapter().getName())
-                            .children(new ArrayList<>())
-                            .build();
-                    l.getChildren().add(m);
-                    mediumMap.put(mId, m);
-                }
-                if (c.getSmallChapter() != null && c.getSmallChapter().getCode() != null) {
-                    Long sId = c.getSmallChapter().getCode();
-                    SmallNode s = smallMap.get(sId);
-                    if (s == null) {
-                        s = SmallNode.builder()
-                                .id(sId)
-                                .name(c.getSmallChapter().getName())
-                                .topics(new ArrayList<>())
-                                .build();
-                        m.getChildren().add(s);
-                        smallMap.put(sId, s);
-                    }
-                    if (c.getTopicChapter() != null && c.getTopicChapter().getCode() != null) {
-                        s.getTopics().add(
-                                TopicNode.builder()
-                                        .id(c.getTopicChapter().getCode())
-                                        .name(c.getTopicChapter().getName())
-                                        .build()
-                        );
-                    }
-                }
-            }
+        try {
+            return objectMapper.readValue(findTreeJson(subjectId), LARGE_NODE_LIST);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
         }
-        return new ArrayList<>(largeMap.values());
+    }
+
+    @Override
+    public RawValue findTreeJsonBySubjectId(Long subjectId) {
+        return new RawValue(findTreeJson(subjectId));
+    }
+
+    @Override
+    public void streamTreeBySubjectId(Long subjectId, OutputStream out) throws IOException {
+        chapterTreeStreamWriter.write(subjectId, out);
+    }
+
+    @Override
+    public void notifyChapterChanged(Long subjectId) {
+        eventPublisher.publishEvent(subjectId == null ? ChapterChangedEvent.all() : new ChapterChangedEvent(subjectId));
+    }
+
+    @Override
+    public void evictChapterCache(Long subjectId) {
+        cacheService.evict(KEY_PREFIX_CHAPTER_BY_SUBJECT + subjectId);
+        cacheService.evict(KEY_PREFIX_CHAPTER_TREE + subjectId);
+        cacheService.evictByTag(TAG_CHAPTER_RESPONSE);
+        log.info("단원 캐시 무효화: subjectId={}", subjectId);
+    }
+
+    @Override
+    public void evictAllChapterCaches() {
+        long deleted = cacheService.evictByPattern(KEY_PREFIX_CHAPTER + KEY_WILDCARD)
+                + cacheService.evictByPattern(CHAPTER_RESPONSE_PATTERN);
+        log.info("전체 단원 캐시 무효화: count={}", deleted);
+    }
+
+    /**
+     * 단원 변경 시 인덱스 재구성 후 캐시 무효화 (트랜잭션이 있으면 커밋 이후)
+     * 다른 노드의 인덱스는 ChapterIndexSynchronizer 알림으로 재구성된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChapterChanged(ChapterChangedEvent event) {
+        chapterIndexSynchronizer.changed(event.subjectId());
+        if (event.isAllSubjects()) {
+            evictAllChapterCaches();
+        } else {
+            evictChapterCache(event.subjectId());
+        }
+    }
+
+    /**
+     * 단원 트리 JSON (교과서별 캐시)
+     * 트리 객체 대신 직렬화 결과를 캐시하여 히트 시 Jackson 직렬화도 생략
+     */
+    private String findTreeJson(Long subjectId) {
+        return cacheService.getOrElse(KEY_PREFIX_CHAPTER_TREE + subjectId,
+                REFERENCE_TTL_SECONDS, TimeUnit.SECONDS, () -> buildTreeJson(subjectId), String.class);
+    }
+
+    private String buildTreeJson(Long subjectId) {
+        try {
+            return objectMapper.writeValueAsString(buildTree(subjectId));
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    @Override
+    public String warmUpName() {
+        return "chapters";
+    }
+
+    /**
+     * 교과서별 단원 목록과 단원 트리
+     */
+    @Override
+    public Map<String, Supplier<?>> warmUpLoaders() {
+        Map<String, Supplier<?>> loaders = new LinkedHashMap<>();
+        for (Long subjectId : chapterRepository.findDistinctSubjectIds()) {
+            loaders.put(KEY_PREFIX_CHAPTER_BY_SUBJECT + subjectId, () -> loadBySubjectId(subjectId));
+            loaders.put(KEY_PREFIX_CHAPTER_TREE + subjectId, () -> buildTreeJson(subjectId));
+        }
+        return loaders;
+    }
+
+    @Override
+    public long warmUpTtlSeconds() {
+        return REFERENCE_TTL_SECONDS;
+    }
+
+    // 캐시 직렬화 시 타입 정보가 남도록 불변 리스트 대신 ArrayList로 반환
+    private List<ChapterResponse> loadBySubjectId(Long subjectId) {
+        return new ArrayList<>(chapterRepository.findResponsesBySubjectId(subjectId));
+    }
+
+    /**
+     * 단원 트리 구성 (엔티티 없이 교과서 하나의 행만 읽어 ChapterIndex로 조립)
+     * 결과가 모든 노드가 함께 쓰는 캐시에 들어가므로 노드별 인덱스가 아닌 MySQL에서 만든다.
+     */
+    private List<LargeNode> buildTree(Long subjectId) {
+        return chapterIndexHolder.loadSubject(subjectId).tree(subjectId);
     }
 }
@@ -0,0 +1,219 @@
+package com.pullit.chapter.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.pullit.chapter.repository.ChapterJdbcRepository;
+import com.pullit.chapter.repository.ChapterJdbcRepository.ChapterTreeRow;
+import com.pullit.common.dto.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * 단원 트리 스트리밍 직렬화
+ * 정렬된 행을 한 행씩 읽으며 대 > 중 > 소 > 주제 중첩을 JsonGenerator로 바로 출력한다.
+ * 메모리에는 현재 행과 열려 있는 노드 ID만 유지하므로 단원 수와 무관하게 사용량이 일정하다.
+ * 출력 형식은 ApiResponse<List<LargeNode>>와 같고, data 외의 필드는 ApiResponse를 그대로 직렬화해 쓴다.
+ * 첫 대단원 노드가 끝날 때까지는 응답으로 내보내지 않으므로 조회 실패는 응답 커밋 전에 오류로 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChapterTreeStreamWriter {
+
+    private static final String DATA_FIELD = "data";
+
+    private final ChapterJdbcRepository chapterJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    public void write(Long subjectId, OutputStream out) throws IOException {
+        DeferredOutputStream deferred = new DeferredOutputStream(out);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(deferred)) {
+            generator.writeStartObject();
+            ObjectNode envelope = objectMapper.valueToTree(ApiResponse.<Void>success(null));
+            for (Map.Entry<String, JsonNode> field : envelope.properties()) {
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+            generator.writeArrayFieldStart(DATA_FIELD);
+
+            TreeState state = new TreeState(generator, deferred);
+            chapterJdbcRepository.forEachTreeRow(subjectId, state::accept);
+            state.closeAll();
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        deferred.release();
+    }
+
+    /**
+     * release() 전까지 출력을 메모리에 모아 두는 스트림 (그 전에는 응답이 커밋되지 않음)
+     */
+    private static final class DeferredOutputStream extends FilterOutputStream {
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        DeferredOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (buffer != null) {
+                buffer.write(b);
+            } else {
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            } else {
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (buffer == null) {
+                out.flush();
+            }
+        }
+
+        /**
+         * 모아 둔 출력을 내보내고 이후로는 바로 쓴다.
+         */
+        void release() throws IOException {
+            if (buffer != null) {
+                buffer.writeTo(out);
+                buffer = null;
+            }
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+            // 응답 스트림은 호출한 쪽에서 닫는다
+        }
+    }
+
+    /**
+     * 현재 열려 있는 대/중/소 노드 추적
+     * (ChapterServiceImpl.buildTree와 같은 규칙: 상위 단원이 없는 행의 하위 단원은 무시)
+     */
+    private static final class TreeState {
+        private final JsonGenerator generator;
+        private final DeferredOutputStream deferred;
+        private Long largeId;
+        private Long mediumId;
+        private Long smallId;
+
+        TreeState(JsonGenerator generator, DeferredOutputStream deferred) {
+            this.generator = generator;
+            this.deferred = deferred;
+        }
+
+        void accept(ChapterTreeRow row) {
+            try {
+                write(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void write(ChapterTreeRow row) throws IOException {
+            if (row.largeId() == null) {
+                return;
+            }
+            if (!row.largeId().equals(largeId)) {
+                if (largeId != null) {
+                    closeLarge();
+                    // 첫 대단원까지 정상 조회되었으면 그때부터 스트리밍
+                    generator.flush();
+                    deferred.release();
+                }
+                startNode(row.largeId(), row.largeName(), "children");
+                largeId = row.largeId();
+            }
+
+            if (row.mediumId() == null) {
+                return;
+            }
+            if (!row.mediumId().equals(mediumId)) {
+                closeMedium();
+                startNode(row.mediumId(), row.mediumName(), "children");
+                mediumId = row.mediumId();
+            }
+
+            if (row.smallId() == null) {
+                return;
+            }
+            if (!row.smallId().equals(smallId)) {
+                closeSmall();
+                startNode(row.smallId(), row.smallName(), "topics");
+                smallId = row.smallId();
+            }
+
+            if (row.topicId() != null) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", row.topicId());
+                generator.writeStringField("name", row.topicName());
+                generator.writeEndObject();
+            }
+        }
+
+        void closeAll() {
+            try {
+                closeLarge();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void startNode(Long id, String name, String childrenField) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeStringField("name", name);
+            generator.writeArrayFieldStart(childrenField);
+        }
+
+        private void closeLarge() throws IOException {
+            closeMedium();
+            if (largeId != null) {
+                closeNode();
+                largeId = null;
+            }
+        }
+
+        private void closeMedium() throws IOException {
+            closeSmall();
+            if (mediumId != null) {
+                closeNode();
+                mediumId = null;
+            }
+        }
+
+        private void closeSmall() throws IOException {
+            if (smallId != null) {
+                closeNode();
+                smallId = null;
+            }
+        }
+
+        private void closeNode() throws IOException {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
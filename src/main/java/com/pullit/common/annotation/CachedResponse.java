@@ -0,0 +1,20 @@
+package com.pullit.common.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET 응답 바이트 캐싱을 위한 어노테이션
+ * 직렬화된 응답(원본/gzip)을 경로+@RequestParam 값 단위로 캐시하고 ETag/304를 지원한다.
+ * 핸들러가 받지 않는 쿼리 파라미터는 캐시 키에 포함하지 않는다.
+ * 사용자별로 달라지는 응답에는 사용하지 않는다.
+ * tags를 지정하면 캐시 키를 태그 인덱스에 등록해 CacheService.evictByTag로 묶어서 삭제할 수 있다.
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+    long ttl() default 60;
+    TimeUnit timeUnit() default TimeUnit.MINUTES;
+    String[] tags() default {};
+}
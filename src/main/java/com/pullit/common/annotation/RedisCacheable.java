@@ -11,9 +11,9 @@ import java.util.concurrent.TimeUnit;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface RedisCacheable {
-    String key() default "";
+    String key() default "";            // SpEL, 비어 있으면 클래스.메소드:인자 조합
     long ttl() default 60;
     TimeUnit timeUnit() default TimeUnit.MINUTES;
-    boolean compress() default false;
-    String condition() default "";
+    boolean compress() default false;   // 큰 값(HTML 등)은 LZ4 압축 후 저장
+    String condition() default "";      // SpEL, 거짓이면 캐시하지 않음
 }
\ No newline at end of file
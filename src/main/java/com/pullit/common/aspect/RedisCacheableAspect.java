@@ -0,0 +1,177 @@
+package com.pullit.common.aspect;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pullit.common.annotation.RedisCacheable;
+import com.pullit.common.cache.compression.CacheCompressor;
+import com.pullit.common.cache.compression.CompressedValue;
+import com.pullit.common.cache.service.CacheService;
+import com.pullit.common.config.properties.CacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.pullit.common.constants.CacheConstants.*;
+
+/**
+ * @RedisCacheable 어노테이션 처리를 위한 Aspect
+ * SpEL로 키/조건을 평가하고 CacheService를 통해 캐시를 조회/저장한다.
+ * compress=true이면 임계값 이상의 값을 JSON 직렬화 후 LZ4로 압축해 저장한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RedisCacheableAspect {
+
+    private final CacheService cacheService;
+    private final CacheCompressor cacheCompressor;
+    private final ObjectMapper objectMapper;
+    private final CacheProperties cacheProperties;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
+    private final Map<Method, Boolean> defaultKeyMethods = new ConcurrentHashMap<>();
+
+    @Around("@annotation(redisCacheable)")
+    public Object cache(ProceedingJoinPoint joinPoint, RedisCacheable redisCacheable) throws Throwable {
+        Method method = resolveMethod(joinPoint);
+        if (method.getReturnType() == void.class) {
+            return joinPoint.proceed();
+        }
+
+        EvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), method, joinPoint.getArgs(), parameterNameDiscoverer);
+
+        // 조건이 거짓이면 캐시를 거치지 않음
+        if (!redisCacheable.condition().isEmpty()
+                && !Boolean.TRUE.equals(evaluate(redisCacheable.condition(), context, Boolean.class))) {
+            return joinPoint.proceed();
+        }
+
+        String key = generateKey(joinPoint, method, redisCacheable, context);
+        if (key == null) {
+            // 키가 null로 평가되면 서로 다른 호출이 같은 키를 공유하지 않도록 캐시를 건너뜀
+            log.debug("캐시 키가 null이므로 캐시하지 않음: method={}", method.getName());
+            return joinPoint.proceed();
+        }
+        JavaType returnType = objectMapper.getTypeFactory().constructType(method.getGenericReturnType());
+
+        Object cached = readCache(key, returnType);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object result = joinPoint.proceed();
+        if (result != null) {
+            writeCache(key, result, redisCacheable);
+        }
+        return result;
+    }
+
+    private Object readCache(String key, JavaType returnType) {
+        try {
+            Object value = cacheService.get(key, Object.class);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof CompressedValue compressed) {
+                return objectMapper.readValue(cacheCompressor.decompress(compressed), returnType);
+            }
+            if (ClassUtils.resolvePrimitiveIfNecessary(returnType.getRawClass()).isInstance(value)) {
+                return value;
+            }
+            log.warn("캐시 타입 불일치: key={}, expected={}, actual={}",
+                    key, returnType, value.getClass().getName());
+        } catch (Exception e) {
+            log.error(MSG_CACHE_ERROR, key, e);
+        }
+        return null;
+    }
+
+    private void writeCache(String key, Object result, RedisCacheable redisCacheable) {
+        try {
+            Object value = result;
+            if (redisCacheable.compress()) {
+                byte[] json = objectMapper.writeValueAsBytes(result);
+                if (json.length >= cacheProperties.getCompression().getThresholdBytes()) {
+                    CompressedValue compressed = cacheCompressor.compress(json);
+                    log.debug("캐시 값 압축: key={}, {} -> {} bytes",
+                            key, json.length, compressed.getPayload().length);
+                    value = compressed;
+                }
+            }
+            cacheService.put(key, value, redisCacheable.ttl(), redisCacheable.timeUnit());
+        } catch (Exception e) {
+            log.error(MSG_CACHE_ERROR, key, e);
+        }
+    }
+
+    /**
+     * 캐시 키 생성
+     * key 속성이 있으면 SpEL로 평가(null이면 캐시하지 않음), 없으면 "method:{클래스}.{메소드}:{인자...}"
+     * 기본 키는 인자의 toString()을 쓰므로 파라미터가 모두 단순 타입(숫자, 문자열, enum 등)일 때만 허용한다.
+     */
+    private String generateKey(ProceedingJoinPoint joinPoint, Method method,
+                               RedisCacheable redisCacheable, EvaluationContext context) {
+        if (!redisCacheable.key().isEmpty()) {
+            Object key = evaluate(redisCacheable.key(), context, Object.class);
+            return key != null ? key.toString() : null;
+        }
+
+        if (!defaultKeyMethods.computeIfAbsent(method, RedisCacheableAspect::hasSimpleParameters)) {
+            throw new IllegalStateException("@RedisCacheable key 속성이 필요합니다 (단순 타입이 아닌 파라미터): "
+                    + method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        }
+
+        StringBuilder keyBuilder = new StringBuilder(KEY_PREFIX_METHOD)
+                .append(method.getDeclaringClass().getSimpleName())
+                .append('.')
+                .append(method.getName());
+        for (Object arg : joinPoint.getArgs()) {
+            keyBuilder.append(KEY_DELIMITER).append(arg);
+        }
+        return keyBuilder.toString();
+    }
+
+    /**
+     * toString()이 값 기반인 타입만으로 이루어졌는지 (identity hash가 키에 섞이지 않도록)
+     */
+    private static boolean hasSimpleParameters(Method method) {
+        for (Class<?> type : method.getParameterTypes()) {
+            if (!BeanUtils.isSimpleValueType(ClassUtils.resolvePrimitiveIfNecessary(type))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private <T> T evaluate(String expression, EvaluationContext context, Class<T> type) {
+        return expressionCache.computeIfAbsent(expression, parser::parseExpression)
+                .getValue(context, type);
+    }
+
+    private Method resolveMethod(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return AopUtils.getMostSpecificMethod(method, joinPoint.getTarget().getClass());
+    }
+}
@@ -0,0 +1,31 @@
+package com.pullit.common.cache.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.stereotype.Component;
+
+/**
+ * LZ4 기반 캐시 값 압축기
+ * 압축률보다 속도가 중요한 캐시 경로에 맞춰 fast 압축기를 사용
+ */
+@Component
+public class CacheCompressor {
+
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public CacheCompressor() {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    public CompressedValue compress(byte[] data) {
+        return new CompressedValue(data.length, compressor.compress(data));
+    }
+
+    public byte[] decompress(CompressedValue value) {
+        return decompressor.decompress(value.getPayload(), value.getOriginalLength());
+    }
+}
@@ -0,0 +1,17 @@
+package com.pullit.common.cache.compression;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 압축되어 캐시에 저장되는 값
+ * 복원 시 원본 길이가 필요하므로 함께 저장
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompressedValue {
+    private int originalLength;
+    private byte[] payload;
+}
@@ -0,0 +1,88 @@
+package com.pullit.common.cache.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.pullit.common.cache.compression.CompressedValue;
+import com.pullit.common.cache.service.NearCacheService;
+import com.pullit.common.cache.service.NearCacheService.NearCacheEntry;
+import com.pullit.common.config.properties.CacheProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 2단계 캐시(L1) 설정
+ * Caffeine(W-TinyLFU)으로 크기 기반 제거, 엔트리별 TTL 적용
+ */
+@Configuration
+public class NearCacheConfig {
+
+    // 크기를 알 수 없는 객체의 추정 바이트 수
+    private static final int DEFAULT_ENTRY_WEIGHT = 256;
+    private static final int COLLECTION_ELEMENT_WEIGHT = 128;
+
+    @Bean
+    public Cache<String, NearCacheEntry> nearLocalCache(CacheProperties cacheProperties) {
+        return Caffeine.newBuilder()
+                .maximumWeight(cacheProperties.getNear().getMaximumWeightBytes())
+                .weigher((String key, NearCacheEntry entry) -> key.length() * 2 + estimateWeight(entry.value()))
+                .expireAfter(new Expiry<String, NearCacheEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, NearCacheEntry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, NearCacheEntry entry, long currentTime,
+                                                  long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, NearCacheEntry entry, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 다른 노드의 저장/삭제 시 L1을 무효화하기 위한 Pub/Sub 리스너
+     */
+    @Bean
+    public RedisMessageListenerContainer nearCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    NearCacheService nearCacheService,
+                                                                    CacheProperties cacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(nearCacheService,
+                new ChannelTopic(cacheProperties.getNear().getInvalidationChannel()));
+        return container;
+    }
+
+    private static int estimateWeight(Object value) {
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (value instanceof CompressedValue compressed) {
+            return compressed.getPayload().length;
+        }
+        if (value instanceof CharSequence chars) {
+            return chars.length() * 2;
+        }
+        if (value instanceof Collection<?> collection) {
+            return Math.max(DEFAULT_ENTRY_WEIGHT, collection.size() * COLLECTION_ELEMENT_WEIGHT);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(DEFAULT_ENTRY_WEIGHT, map.size() * COLLECTION_ELEMENT_WEIGHT * 2);
+        }
+        return DEFAULT_ENTRY_WEIGHT;
+    }
+}
@@ -1,95 +1,107 @@
 package com.pullit.common.cache.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pullit.common.cache.metrics.CacheMetrics;
+import com.pullit.common.cache.metrics.MeteredRedisSerializer;
+import com.pullit.common.cache.serializer.CacheSerializers;
+import com.pullit.common.config.properties.CacheProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.pullit.common.cache.metrics.CacheMetrics.CACHE_REDIS;
+import static com.pullit.common.constants.CacheConstants.CACHE_PRODUCTS;
+import static com.pullit.common.constants.CacheConstants.CACHE_SESSIONS;
+import static com.pullit.common.constants.CacheConstants.CACHE_USERS;
+
 @Configuration
 @EnableCaching
 public class RedisCacheConfig {
 
+    private static final String CACHE_SPRING_DEFAULT = "spring";
+
     @Bean
     public LettuceConnectionFactory lettuceConnectionFactory() {
         return new LettuceConnectionFactory();
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1))
-                .serializeKeysWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
-                )
-                .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
-                )
-                .disableCachingNullValues();
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheMetrics cacheMetrics) {
+        // 미리 선언하지 않은 캐시는 직렬화 메트릭을 "spring"으로 묶어 기록
+        RedisCacheConfiguration defaultConfig = cacheConfiguration(cacheMetrics, CACHE_SPRING_DEFAULT, Duration.ofHours(1));
 
+        // 선언된 캐시는 캐시 이름으로 직렬화 메트릭을 기록
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
         // users 캐시는 30분 TTL
-        cacheConfigurations.put("users",
-                defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        cacheConfigurations.put(CACHE_USERS,
+                cacheConfiguration(cacheMetrics, CACHE_USERS, Duration.ofMinutes(30)));
 
         // products 캐시는 2시간 TTL
-        cacheConfigurations.put("products",
-                defaultConfig.entryTtl(Duration.ofHours(2)));
+        cacheConfigurations.put(CACHE_PRODUCTS,
+                cacheConfiguration(cacheMetrics, CACHE_PRODUCTS, Duration.ofHours(2)));
 
         // sessions 캐시는 24시간 TTL
-        cacheConfigurations.put("sessions",
-                defaultConfig.entryTtl(Duration.ofDays(1)));
+        cacheConfigurations.put(CACHE_SESSIONS,
+                cacheConfiguration(cacheMetrics, CACHE_SESSIONS, Duration.ofDays(1)));
+
+        // @CacheEvict(allEntries = true)도 KEYS 대신 SCAN으로 삭제
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(1000));
 
-        return RedisCacheManager.builder(connectionFactory)
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)  // 기본 설정
                 .withInitialCacheConfigurations(cacheConfigurations)  // 개별 설정
                 .transactionAware()  // 트랜잭션 지원
+                .enableStatistics()  // 캐시별 hit/miss 통계 (Actuator cache 메트릭으로 노출)
                 .build();
 
     }
 
+    private static RedisCacheConfiguration cacheConfiguration(CacheMetrics cacheMetrics, String cacheName, Duration ttl) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .serializeKeysWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
+                )
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(
+                                new MeteredRedisSerializer(new GenericJackson2JsonRedisSerializer(), cacheMetrics, cacheName))
+                )
+                .disableCachingNullValues();
+    }
+
     /**
      * RedisTemplate 설정
      * 프로그래밍 방식으로 Redis를 사용할 때 필요
      */
     @Bean
     public RedisTemplate<String, Object> redisTemplate(
-            RedisConnectionFactory connectionFactory) {
+            RedisConnectionFactory connectionFactory, CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
 
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // Jackson ObjectMapper 커스터마이징
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());  // Java 8 Time 지원
-        objectMapper.activateDefaultTyping(
-                BasicPolymorphicTypeValidator.builder()
-                        .allowIfSubType(Object.class)
-                        .build(),
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
-
-        GenericJackson2JsonRedisSerializer serializer =
-                new GenericJackson2JsonRedisSerializer(objectMapper);
-
-        // 키는 String으로, 값은 JSON으로 직렬화
+        // 버전 헤더 + 바이너리 코덱(기본 Smile), 헤더 없는 기존 JSON 값도 그대로 읽음
+        RedisSerializer<Object> serializer = new MeteredRedisSerializer(
+                CacheSerializers.versioned(cacheProperties.getSerializer().getCodec()), cacheMetrics, CACHE_REDIS);
+
+        // 키는 String으로, 값은 바이너리로 직렬화
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(serializer);
 
@@ -0,0 +1,130 @@
+package com.pullit.common.cache.metrics;
+
+import com.pullit.common.constants.CacheConstants;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.pullit.common.constants.CacheConstants.KEY_DELIMITER;
+
+/**
+ * 캐시 메트릭 수집 (Micrometer)
+ * 캐시 이름(cache)과 키 프리픽스(prefix) 단위로 히트/미스/적재시간/직렬화시간/페이로드 크기/에러를 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics {
+
+    public static final String METRIC_GETS = "pullit.cache.gets";
+    public static final String METRIC_LOAD = "pullit.cache.load";
+    public static final String METRIC_ERRORS = "pullit.cache.errors";
+    public static final String METRIC_SERIALIZATION = "pullit.cache.serialization";
+    public static final String METRIC_PAYLOAD = "pullit.cache.payload.bytes";
+
+    public static final String TAG_CACHE = "cache";
+    public static final String TAG_PREFIX = "prefix";
+    public static final String TAG_RESULT = "result";
+    public static final String TAG_OPERATION = "operation";
+
+    public static final String CACHE_NEAR = "near";
+    public static final String CACHE_REDIS = "redis";
+
+    public static final String RESULT_HIT = "hit";
+    public static final String RESULT_MISS = "miss";
+
+    private static final String NO_PREFIX = "none";
+    private static final String KEY_PREFIX_CONSTANT = "KEY_PREFIX_";
+    private static final List<String> KEY_PREFIXES = declaredKeyPrefixes();
+
+    private final MeterRegistry meterRegistry;
+
+    public void hit(String cache, String key) {
+        meterRegistry.counter(METRIC_GETS, tags(cache, key).and(TAG_RESULT, RESULT_HIT)).increment();
+    }
+
+    public void miss(String cache, String key) {
+        meterRegistry.counter(METRIC_GETS, tags(cache, key).and(TAG_RESULT, RESULT_MISS)).increment();
+    }
+
+    public void error(String cache, String key, String operation) {
+        meterRegistry.counter(METRIC_ERRORS, tags(cache, key).and(TAG_OPERATION, operation)).increment();
+    }
+
+    /**
+     * 캐시 미스 시 원본(DB 등) 적재 소요시간
+     */
+    public void recordLoad(String cache, String key, long elapsedMillis) {
+        Timer.builder(METRIC_LOAD)
+                .tags(tags(cache, key))
+                .register(meterRegistry)
+                .record(elapsedMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 직렬화/역직렬화 소요시간과 페이로드 크기
+     * @param operation encode 또는 decode
+     */
+    public void recordSerialization(String cache, String operation, long elapsedNanos, int payloadBytes) {
+        Tags tags = Tags.of(TAG_CACHE, cache, TAG_OPERATION, operation);
+        Timer.builder(METRIC_SERIALIZATION)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(METRIC_PAYLOAD)
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(payloadBytes);
+    }
+
+    /**
+     * 키가 시작하는 KEY_PREFIX_* 상수 중 가장 긴 것을 프리픽스로 사용 (예: "chapter:tree:json:1" -> "chapter:tree:json:")
+     * 선언된 프리픽스가 없으면 첫 구간 (예: "users::1" -> "users:")
+     * 키 전체를 태그로 쓰면 카디널리티가 폭증하므로 프리픽스까지만 기록
+     */
+    public static String prefixOf(String key) {
+        if (key == null) {
+            return NO_PREFIX;
+        }
+        for (String prefix : KEY_PREFIXES) {
+            if (key.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        int index = key.indexOf(KEY_DELIMITER);
+        return index > 0 ? key.substring(0, index + 1) : NO_PREFIX;
+    }
+
+    /**
+     * CacheConstants에 선언된 KEY_PREFIX_* 값 (긴 것부터)
+     */
+    private static List<String> declaredKeyPrefixes() {
+        List<String> prefixes = new ArrayList<>();
+        for (Field field : CacheConstants.class.getFields()) {
+            if (field.getName().startsWith(KEY_PREFIX_CONSTANT) && field.getType() == String.class
+                    && Modifier.isStatic(field.getModifiers())) {
+                try {
+                    prefixes.add((String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        prefixes.sort(Comparator.comparingInt(String::length).reversed());
+        return List.copyOf(prefixes);
+    }
+
+    private static Tags tags(String cache, String key) {
+        return Tags.of(TAG_CACHE, cache, TAG_PREFIX, prefixOf(key));
+    }
+}
@@ -0,0 +1,69 @@
+package com.pullit.common.cache.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.pullit.common.cache.metrics.CacheMetrics.*;
+
+/**
+ * 캐시 통계 Actuator 엔드포인트 (/actuator/cachestats)
+ * 캐시 이름/키 프리픽스별 히트율, 평균 적재시간, 에러 수 요약
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> cacheStats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+
+        for (Counter counter : meterRegistry.find(METRIC_GETS).counters()) {
+            Map<String, Object> entry = entryOf(stats, counter.getId().getTag(TAG_CACHE),
+                    counter.getId().getTag(TAG_PREFIX));
+            String result = counter.getId().getTag(TAG_RESULT);
+            entry.merge(RESULT_HIT.equals(result) ? "hits" : "misses", (long) counter.count(),
+                    (a, b) -> (long) a + (long) b);
+        }
+
+        for (Timer timer : meterRegistry.find(METRIC_LOAD).timers()) {
+            Map<String, Object> entry = entryOf(stats, timer.getId().getTag(TAG_CACHE),
+                    timer.getId().getTag(TAG_PREFIX));
+            entry.put("loads", timer.count());
+            entry.put("loadMeanMillis", timer.mean(TimeUnit.MILLISECONDS));
+        }
+
+        for (Counter counter : meterRegistry.find(METRIC_ERRORS).counters()) {
+            Map<String, Object> entry = entryOf(stats, counter.getId().getTag(TAG_CACHE),
+                    counter.getId().getTag(TAG_PREFIX));
+            entry.merge("errors", (long) counter.count(), (a, b) -> (long) a + (long) b);
+        }
+
+        stats.values().forEach(entry -> {
+            long hits = (long) entry.getOrDefault("hits", 0L);
+            long misses = (long) entry.getOrDefault("misses", 0L);
+            entry.put("hitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        });
+        return stats;
+    }
+
+    private Map<String, Object> entryOf(Map<String, Map<String, Object>> stats, String cache, String prefix) {
+        return stats.computeIfAbsent(cache + "/" + prefix, k -> {
+            Map<String, Object> entry = new TreeMap<>();
+            entry.put("cache", cache);
+            entry.put("prefix", prefix);
+            return entry;
+        });
+    }
+}
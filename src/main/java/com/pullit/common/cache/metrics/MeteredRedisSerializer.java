@@ -0,0 +1,40 @@
+package com.pullit.common.cache.metrics;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 직렬화 시간과 페이로드 크기를 기록하는 RedisSerializer 데코레이터
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final CacheMetrics cacheMetrics;
+    private final String cacheName;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, CacheMetrics cacheMetrics, String cacheName) {
+        this.delegate = delegate;
+        this.cacheMetrics = cacheMetrics;
+        this.cacheName = cacheName;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        long start = System.nanoTime();
+        byte[] bytes = delegate.serialize(value);
+        cacheMetrics.recordSerialization(cacheName, "encode", System.nanoTime() - start,
+                bytes != null ? bytes.length : 0);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return delegate.deserialize(bytes);
+        }
+        long start = System.nanoTime();
+        Object value = delegate.deserialize(bytes);
+        cacheMetrics.recordSerialization(cacheName, "decode", System.nanoTime() - start, bytes.length);
+        return value;
+    }
+}
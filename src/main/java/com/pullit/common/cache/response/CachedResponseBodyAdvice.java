@@ -0,0 +1,91 @@
+package com.pullit.common.cache.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pullit.common.annotation.CachedResponse;
+import com.pullit.common.cache.service.CacheService;
+import com.pullit.common.config.properties.CacheProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.pullit.common.constants.CacheConstants.MSG_CACHE_ERROR;
+import static com.pullit.common.constants.CacheConstants.MSG_CACHE_SAVED;
+
+/**
+ * @CachedResponse 핸들러의 캐시 미스 처리
+ * 응답 객체를 한 번만 직렬화해 원본/gzip 바이트로 저장하고, 같은 바이트를 직접 응답한다.
+ * (본문을 직접 썼으므로 null을 반환해 메시지 컨버터의 재직렬화를 막는다)
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class CachedResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final CacheService cacheService;
+    private final CachedResponseWriter writer;
+    private final CacheProperties cacheProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return cacheProperties.getResponse().isEnabled()
+                && MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                && returnType.hasMethodAnnotation(CachedResponse.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        if (!HttpMethod.GET.matches(httpRequest.getMethod())
+                || httpResponse.getStatus() != HttpServletResponse.SC_OK) {
+            return body;
+        }
+
+        CachedResponse cachedResponse = returnType.getMethodAnnotation(CachedResponse.class);
+        String key = writer.cacheKey(httpRequest, returnType.getMethod());
+        CachedResponseEntry entry;
+        try {
+            entry = writer.create(MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsBytes(body));
+            cacheService.put(key, entry, cachedResponse.ttl(), cachedResponse.timeUnit());
+            if (cachedResponse.tags().length > 0) {
+                cacheService.tag(key, cachedResponse.ttl(), cachedResponse.timeUnit(), cachedResponse.tags());
+            }
+            log.debug(MSG_CACHE_SAVED, key, cachedResponse.ttl(), cachedResponse.timeUnit());
+        } catch (Exception e) {
+            // 캐시 저장 실패 시 일반 직렬화 경로로 응답
+            log.error(MSG_CACHE_ERROR, key, e);
+            return body;
+        }
+
+        try {
+            writer.write(httpRequest, httpResponse, entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+}
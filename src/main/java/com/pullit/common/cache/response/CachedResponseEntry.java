@@ -0,0 +1,26 @@
+package com.pullit.common.cache.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시된 HTTP 응답 본문
+ * 원본(identity)과 gzip 인코딩 바이트를 함께 보관하고, 인코딩별로 다른 강한 ETag를 사용한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CachedResponseEntry {
+
+    private String contentType;
+    private byte[] identity;
+    private byte[] gzip;          // 압축 이득이 없으면 null
+    private String etag;          // identity 본문의 ETag (따옴표 포함)
+    private String gzipEtag;      // gzip 본문의 ETag (따옴표 포함)
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+}
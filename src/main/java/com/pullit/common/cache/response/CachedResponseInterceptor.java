@@ -0,0 +1,58 @@
+package com.pullit.common.cache.response;
+
+import com.pullit.common.annotation.CachedResponse;
+import com.pullit.common.cache.service.CacheService;
+import com.pullit.common.config.properties.CacheProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import static com.pullit.common.constants.CacheConstants.MSG_CACHE_ERROR;
+import static com.pullit.common.constants.CacheConstants.MSG_CACHE_HIT;
+
+/**
+ * @CachedResponse 핸들러의 캐시 히트 처리
+ * 히트 시 컨트롤러를 호출하지 않고 저장된 바이트(또는 304)를 바로 응답한다.
+ * 미스는 컨트롤러 실행 후 {@link CachedResponseBodyAdvice}에서 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CachedResponseInterceptor implements HandlerInterceptor {
+
+    private final CacheService cacheService;
+    private final CachedResponseWriter writer;
+    private final CacheProperties cacheProperties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) throws Exception {
+        if (!cacheProperties.getResponse().isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !(handler instanceof HandlerMethod handlerMethod)
+                || !handlerMethod.hasMethodAnnotation(CachedResponse.class)) {
+            return true;
+        }
+
+        String key = writer.cacheKey(request, handlerMethod.getMethod());
+        CachedResponseEntry entry;
+        try {
+            entry = cacheService.get(key, CachedResponseEntry.class);
+        } catch (Exception e) {
+            log.error(MSG_CACHE_ERROR, key, e);
+            return true;
+        }
+        if (entry == null) {
+            return true;
+        }
+
+        log.debug(MSG_CACHE_HIT, key);
+        writer.write(request, response, entry);
+        return false;
+    }
+}
@@ -0,0 +1,177 @@
+package com.pullit.common.cache.response;
+
+import com.pullit.common.config.properties.CacheProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import static com.pullit.common.constants.CacheConstants.KEY_PREFIX_RESPONSE;
+
+/**
+ * 캐시된 응답 바이트 생성/전송
+ * - 본문 SHA-256으로 강한 ETag 생성 (gzip 본문은 별도 ETag)
+ * - If-None-Match 일치 시 본문 없이 304
+ * - Accept-Encoding에 gzip이 있으면 미리 압축된 바이트 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class CachedResponseWriter {
+
+    private static final String GZIP = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+    private static final String CACHE_CONTROL_REVALIDATE = "no-cache";
+    private static final int ETAG_HASH_BYTES = 16;
+
+    private final CacheProperties cacheProperties;
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    // 핸들러별 @RequestParam 이름 -> 기본값 (이름 오름차순)
+    private final Map<Method, SortedMap<String, String>> boundParams = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 키: response:{경로}[?{이름=값&...}]
+     * 쿼리 문자열 대신 핸들러가 받는 @RequestParam만 이름순으로 넣어,
+     * 모르는 파라미터나 순서만 다른 요청이 별도 키를 만들지 않도록 한다. 값이 없으면 기본값을 쓴다.
+     */
+    public String cacheKey(HttpServletRequest request, Method handler) {
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        boundParams.computeIfAbsent(handler, this::requestParams).forEach((name, defaultValue) -> {
+            String[] values = request.getParameterValues(name);
+            if (values != null) {
+                for (String value : values) {
+                    query.add(encode(name) + "=" + encode(value));
+                }
+            } else if (defaultValue != null) {
+                query.add(encode(name) + "=" + encode(defaultValue));
+            }
+        });
+        return KEY_PREFIX_RESPONSE + request.getRequestURI() + query;
+    }
+
+    public CachedResponseEntry create(String contentType, byte[] body) {
+        String hash = hash(body);
+        byte[] gzip = body.length >= cacheProperties.getResponse().getGzipMinBytes() ? gzip(body) : null;
+        if (gzip != null && gzip.length >= body.length) {
+            gzip = null;
+        }
+        return new CachedResponseEntry(contentType, body, gzip,
+                quote(hash), gzip != null ? quote(hash + GZIP_ETAG_SUFFIX) : null);
+    }
+
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      CachedResponseEntry entry) throws IOException {
+        boolean useGzip = entry.hasGzip() && acceptsGzip(request);
+        String etag = useGzip ? entry.getGzipEtag() : entry.getEtag();
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_REVALIDATE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), entry)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = useGzip ? entry.getGzip() : entry.getIdentity();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.getContentType());
+        if (useGzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    /**
+     * If-None-Match 비교 (목록, *, 약한 비교 허용)
+     * 클라이언트가 받은 인코딩과 관계없이 같은 본문이면 일치로 본다.
+     */
+    private boolean matches(String ifNoneMatch, CachedResponseEntry entry) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> "*".equals(tag)
+                        || tag.equals(entry.getEtag())
+                        || tag.equals(entry.getGzipEtag()));
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private SortedMap<String, String> requestParams(Method handler) {
+        SortedMap<String, String> params = new TreeMap<>();
+        for (int i = 0; i < handler.getParameterCount(); i++) {
+            MethodParameter parameter = new MethodParameter(handler, i);
+            parameter.initParameterNameDiscovery(parameterNameDiscoverer);
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam == null) {
+                continue;
+            }
+            String name = StringUtils.hasText(requestParam.name()) ? requestParam.name() : parameter.getParameterName();
+            if (name == null) {
+                throw new IllegalStateException("@CachedResponse 핸들러의 @RequestParam 이름을 알 수 없습니다: " + handler);
+            }
+            params.put(name, ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue())
+                    ? null : requestParam.defaultValue());
+        }
+        return params;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, ETAG_HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
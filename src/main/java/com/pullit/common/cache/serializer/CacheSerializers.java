@@ -0,0 +1,77 @@
+package com.pullit.common.cache.serializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+
+/**
+ * 캐시 직렬화기 생성 유틸
+ */
+public final class CacheSerializers {
+
+    public static final byte SMILE_CODEC_ID = 1;
+    public static final byte JSON_CODEC_ID = 2;
+
+    public static final String SMILE = "smile";
+    public static final String JSON = "json";
+
+    private CacheSerializers() {}
+
+    /**
+     * 기존과 동일한 타입 정보 설정의 ObjectMapper
+     * (다형성 역직렬화를 위해 NON_FINAL 타입에 클래스명을 기록)
+     */
+    public static ObjectMapper cacheObjectMapper(JsonFactory factory) {
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        objectMapper.registerModule(new JavaTimeModule());  // Java 8 Time 지원
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType(Object.class)
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return objectMapper;
+    }
+
+    /**
+     * Smile(바이너리 JSON) 코덱
+     * 공유 문자열 참조로 값마다 반복되는 클래스명/필드명을 한 번만 기록
+     */
+    public static CacheValueCodec smileCodec() {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new JacksonCacheValueCodec(SMILE_CODEC_ID, SMILE, cacheObjectMapper(factory));
+    }
+
+    public static CacheValueCodec jsonCodec() {
+        return new JacksonCacheValueCodec(JSON_CODEC_ID, JSON, cacheObjectMapper(new JsonFactory()));
+    }
+
+    /**
+     * 헤더 없는 기존 JSON 엔트리 전용 직렬화기
+     */
+    public static GenericJackson2JsonRedisSerializer legacyJsonSerializer() {
+        return new GenericJackson2JsonRedisSerializer(cacheObjectMapper(new JsonFactory()));
+    }
+
+    /**
+     * 저장은 지정한 코덱으로, 조회는 등록된 모든 코덱과 기존 JSON을 지원
+     * @param codecName smile 또는 json
+     */
+    public static VersionedRedisSerializer versioned(String codecName) {
+        CacheValueCodec smile = smileCodec();
+        CacheValueCodec json = jsonCodec();
+        CacheValueCodec writeCodec = JSON.equalsIgnoreCase(codecName) ? json : smile;
+        return new VersionedRedisSerializer(writeCodec, List.of(smile, json), legacyJsonSerializer());
+    }
+}
@@ -0,0 +1,18 @@
+package com.pullit.common.cache.serializer;
+
+import java.io.IOException;
+
+/**
+ * 캐시 값 인코딩 방식
+ * 저장 시 헤더에 id가 기록되므로, 한 번 배포된 id는 바꾸지 않는다.
+ */
+public interface CacheValueCodec {
+
+    byte id();
+
+    String name();
+
+    byte[] encode(Object value) throws IOException;
+
+    Object decode(byte[] bytes, int offset, int length) throws IOException;
+}
@@ -0,0 +1,42 @@
+package com.pullit.common.cache.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Jackson ObjectMapper 기반 코덱
+ * JSON/Smile 등 ObjectMapper가 지원하는 포맷을 그대로 사용
+ */
+public class JacksonCacheValueCodec implements CacheValueCodec {
+
+    private final byte id;
+    private final String name;
+    private final ObjectMapper objectMapper;
+
+    public JacksonCacheValueCodec(byte id, String name, ObjectMapper objectMapper) {
+        this.id = id;
+        this.name = name;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte id() {
+        return id;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes, int offset, int length) throws IOException {
+        return objectMapper.readValue(bytes, offset, length, Object.class);
+    }
+}
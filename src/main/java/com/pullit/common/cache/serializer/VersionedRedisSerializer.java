@@ -0,0 +1,75 @@
+package com.pullit.common.cache.serializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 버전 헤더가 붙은 Redis 값 직렬화기
+ * 형식: [MAGIC(0xFE)][포맷 버전][코덱 id][payload]
+ * JSON은 0xFE로 시작할 수 없으므로, 헤더가 없는 값은 기존 JSON 엔트리로 보고
+ * legacy 직렬화기로 읽는다. (기존 캐시를 비우지 않고 점진적으로 전환)
+ */
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xFE;
+    static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = 3;
+
+    private final CacheValueCodec writeCodec;
+    private final Map<Byte, CacheValueCodec> codecs = new HashMap<>();
+    private final RedisSerializer<Object> legacySerializer;
+
+    public VersionedRedisSerializer(CacheValueCodec writeCodec, List<CacheValueCodec> readCodecs,
+                                    RedisSerializer<Object> legacySerializer) {
+        this.writeCodec = writeCodec;
+        this.legacySerializer = legacySerializer;
+        readCodecs.forEach(codec -> codecs.put(codec.id(), codec));
+        codecs.put(writeCodec.id(), writeCodec);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            byte[] payload = writeCodec.encode(value);
+            byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+            bytes[0] = MAGIC;
+            bytes[1] = FORMAT_VERSION;
+            bytes[2] = writeCodec.id();
+            System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: codec=" + writeCodec.name(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return legacySerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != FORMAT_VERSION) {
+            throw new SerializationException("지원하지 않는 캐시 포맷 버전: " + (bytes.length > 1 ? bytes[1] : -1));
+        }
+
+        CacheValueCodec codec = codecs.get(bytes[2]);
+        if (codec == null) {
+            throw new SerializationException("알 수 없는 캐시 코덱: id=" + bytes[2]);
+        }
+        try {
+            return codec.decode(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패: codec=" + codec.name(), e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.pullit.common.cache.service;
+
+import com.pullit.common.config.properties.CacheProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.pullit.common.constants.CacheConstants.KEY_PREFIX_LOCK;
+
+/**
+ * 캐시 적재 조정기 (캐시 스탬피드 방지)
+ * - JVM 내 키별 single-flight: 같은 키의 동시 미스는 한 번만 적재
+ * - Redis 락 기반 노드 간 single-flight (선택)
+ * - 조기 갱신(XFetch)용 백그라운드 실행기
+ */
+@Slf4j
+@Component
+public class CacheLoadCoordinator {
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheProperties.Stampede properties;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public CacheLoadCoordinator(StringRedisTemplate stringRedisTemplate, CacheProperties cacheProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = cacheProperties.getStampede();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(
+                properties.getRefreshThreads(), properties.getRefreshThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getRefreshQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 같은 키에 대한 동시 적재를 하나로 합친다.
+     * 먼저 들어온 스레드만 loader를 실행하고, 나머지는 그 결과를 기다린다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T loadOnce(String key, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            log.debug("적재 진행 중인 키 대기: key={}", key);
+            return (T) await(existing);
+        }
+
+        try {
+            T value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // Error도 전달해야 대기 중인 스레드가 영원히 기다리지 않음
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 노드 간 적재 락 획득 (SET NX PX)
+     * @return 획득 성공 시 락 토큰, 실패 시 null
+     */
+    public String tryLock(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX_LOCK + key, token, properties.getLockTtl());
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.error("캐시 적재 락 획득 실패: key={}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 본인이 획득한 락만 해제 (토큰 비교 후 삭제)
+     */
+    public void unlock(String key, String token) {
+        try {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(KEY_PREFIX_LOCK + key), token);
+        } catch (Exception e) {
+            log.error("캐시 적재 락 해제 실패: key={}", key, e);
+        }
+    }
+
+    /**
+     * 만료 전 조기 갱신 요청 (키별 중복 제거)
+     * task는 요청 스레드가 아닌 갱신 스레드에서 실행되므로 호출자의 트랜잭션/영속성 컨텍스트,
+     * 보안 컨텍스트를 쓸 수 없다.
+     */
+    public void refreshAsync(String key, Runnable task) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    log.error("캐시 조기 갱신 실패: key={}", key, t);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 차면 조기 갱신은 건너뜀 (만료 시 일반 적재로 처리)
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * XFetch 조기 만료 판단
+     * -delta * beta * ln(rand) >= 남은 TTL 이면 갱신
+     * @param deltaMillis 마지막 적재에 걸린 시간
+     * @param remainingTtlMillis 남은 TTL (음수면 만료 없음)
+     */
+    public boolean shouldRefreshEarly(long deltaMillis, long remainingTtlMillis) {
+        if (!properties.isEarlyRefreshEnabled() || deltaMillis <= 0 || remainingTtlMillis < 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        return -deltaMillis * properties.getEarlyRefreshBeta() * Math.log(random) >= remainingTtlMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.pullit.common.cache.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public interface CacheService {
@@ -30,10 +33,30 @@ public interface CacheService {
     /**
      * Cache-Aside 패턴 구현
      * 캐시에 없으면 Supplier로 값을 생성하여 캐시에 저장
+     * Supplier는 만료 전 조기 갱신 시 별도 스레드에서도 실행되므로 호출자의 트랜잭션,
+     * 영속성 컨텍스트(지연 로딩), 보안 컨텍스트에 의존하지 않고 스스로 조회를 끝내야 한다.
      */
     <T> T getOrElse(String key, long ttl, TimeUnit timeUnit,
                     Supplier<T> valueSupplier, Class<T> type);
 
+    /**
+     * 여러 키 일괄 조회 (MGET 1회)
+     * @return 히트한 키만 담은 Map (요청 순서 유지)
+     */
+    <T> Map<String, T> getAll(Collection<String> keys, Class<T> type);
+
+    /**
+     * 여러 값 일괄 저장 (파이프라인 SET + TTL)
+     */
+    void putAll(Map<String, ?> values, long ttl, TimeUnit timeUnit);
+
+    /**
+     * 일괄 Cache-Aside 패턴
+     * 캐시에 없는 키만 모아 loader를 한 번 호출하고 결과를 일괄 저장
+     */
+    <T> Map<String, T> getOrElseAll(Collection<String> keys, long ttl, TimeUnit timeUnit,
+                                    Function<Collection<String>, Map<String, T>> loader, Class<T> type);
+
     /**
      * 캐시 삭제
      */
@@ -42,8 +65,22 @@ public interface CacheService {
     /**
      * 패턴과 일치하는 모든 캐시 삭제
      * @param pattern 키 패턴 (예: "user:*")
+     * @return 삭제된 키 개수
+     */
+    long evictByPattern(String pattern);
+
+    /**
+     * 키를 태그(그룹) 인덱스에 등록
+     * 태그 Set의 TTL은 등록된 키 중 가장 긴 TTL까지만 연장되므로 키가 모두 만료되면 Set도 사라진다.
+     * @param ttl 등록하는 키의 유효 시간
+     */
+    void tag(String key, long ttl, TimeUnit timeUnit, String... tags);
+
+    /**
+     * 태그에 등록된 모든 캐시 삭제 (전체 키 스캔 없이 그룹 크기만큼만 작업)
+     * @return 삭제된 키 개수
      */
-    void evictByPattern(String pattern);
+    long evictByTag(String tag);
 
     /**
      * 캐시 키 존재 여부 확인
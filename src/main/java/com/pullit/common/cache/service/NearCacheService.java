@@ -0,0 +1,389 @@
+package com.pullit.common.cache.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pullit.common.cache.metrics.CacheMetrics;
+import com.pullit.common.config.properties.CacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static com.pullit.common.cache.metrics.CacheMetrics.CACHE_NEAR;
+import static com.pullit.common.constants.CacheConstants.*;
+
+/**
+ * 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis)
+ * 거의 변하지 않는 참조 데이터는 L1에서 네트워크 왕복 없이 반환하고,
+ * 저장/삭제 시 Redis Pub/Sub으로 모든 노드의 L1을 무효화한다.
+ * 무효화 채널을 (재)구독하면 그동안 놓친 메시지가 있을 수 있으므로 L1을 비운다.
+ * L1은 객체 참조를 그대로 돌려주므로 반환값을 수정해서는 안 된다.
+ */
+@Slf4j
+@Primary
+@Service
+public class NearCacheService implements CacheService, MessageListener, SubscriptionListener {
+
+    private static final String TYPE_KEY = "K";
+    private static final String TYPE_PATTERN = "P";
+    private static final String TYPE_KEYS = "M";
+    private static final String KEYS_DELIMITER = "\n";
+    private static final String MESSAGE_DELIMITER = "|";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final RedisCacheService redisCacheService;
+    private final Cache<String, NearCacheEntry> localCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheProperties.Near properties;
+    private final CacheMetrics cacheMetrics;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // L1 무효화 세대 (키 해시 구간별 + 전체). Redis 조회 중 무효화된 값을 L1에 저장하지 않기 위해 사용
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    public NearCacheService(RedisCacheService redisCacheService,
+                            Cache<String, NearCacheEntry> nearLocalCache,
+                            StringRedisTemplate stringRedisTemplate,
+                            CacheProperties cacheProperties,
+                            CacheMetrics cacheMetrics) {
+        this.redisCacheService = redisCacheService;
+        this.localCache = nearLocalCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = cacheProperties.getNear();
+        this.cacheMetrics = cacheMetrics;
+
+        // Redis 조기 갱신 값은 L1을 거치지 않고 저장되므로 모든 노드의 L1에서 이전 값을 제거
+        redisCacheService.setRefreshListener(key -> {
+            invalidateLocal(key);
+            publishInvalidation(TYPE_KEY, key);
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Class<T> type) {
+        if (properties.isEnabled()) {
+            NearCacheEntry entry = localCache.getIfPresent(key);
+            if (entry != null && type.isInstance(entry.value())) {
+                log.debug(MSG_NEAR_CACHE_HIT, key);
+                cacheMetrics.hit(CACHE_NEAR, key);
+                return (T) entry.value();
+            }
+            cacheMetrics.miss(CACHE_NEAR, key);
+        }
+
+        long generation = generationOf(key);
+        T value = redisCacheService.get(key, type);
+        if (value != null) {
+            putLocalFromRedis(Map.of(key, value), Map.of(key, generation));
+        }
+        return value;
+    }
+
+    @Override
+    public void put(String key, Object value, long ttl, TimeUnit timeUnit) {
+        redisCacheService.put(key, value, ttl, timeUnit);
+        if (value == null) {
+            return;
+        }
+        // 다른 노드의 L1에 남아 있는 이전 값을 먼저 무효화
+        publishInvalidation(TYPE_KEY, key);
+        nextGeneration(key);
+        putLocal(key, value, timeUnit.toNanos(ttl));
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        put(key, value, DEFAULT_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getOrElse(String key, long ttl, TimeUnit timeUnit,
+                           Supplier<T> valueSupplier, Class<T> type) {
+        if (properties.isEnabled()) {
+            NearCacheEntry entry = localCache.getIfPresent(key);
+            if (entry != null && type.isInstance(entry.value())) {
+                log.debug(MSG_NEAR_CACHE_HIT, key);
+                cacheMetrics.hit(CACHE_NEAR, key);
+                return (T) entry.value();
+            }
+            cacheMetrics.miss(CACHE_NEAR, key);
+        }
+
+        long generation = generationOf(key);
+        T value = redisCacheService.getOrElse(key, ttl, timeUnit, valueSupplier, type);
+        if (value != null) {
+            putLocalFromRedis(Map.of(key, value), Map.of(key, generation));
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new LinkedHashMap<>();
+        List<String> remaining = new ArrayList<>();
+        for (String key : keys) {
+            NearCacheEntry entry = properties.isEnabled() ? localCache.getIfPresent(key) : null;
+            if (entry != null && type.isInstance(entry.value())) {
+                result.put(key, (T) entry.value());
+                cacheMetrics.hit(CACHE_NEAR, key);
+            } else {
+                remaining.add(key);
+                if (properties.isEnabled()) {
+                    cacheMetrics.miss(CACHE_NEAR, key);
+                }
+            }
+        }
+        if (remaining.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Long> generations = new HashMap<>();
+        remaining.forEach(key -> generations.put(key, generationOf(key)));
+        Map<String, T> fromRedis = redisCacheService.getAll(remaining, type);
+        putLocalFromRedis(fromRedis, generations);
+        result.putAll(fromRedis);
+        return RedisCacheService.orderByKeys(keys, result);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> values, long ttl, TimeUnit timeUnit) {
+        redisCacheService.putAll(values, ttl, timeUnit);
+        if (values.isEmpty()) {
+            return;
+        }
+        publishInvalidation(TYPE_KEYS, String.join(KEYS_DELIMITER, values.keySet()));
+        values.forEach((key, value) -> {
+            nextGeneration(key);
+            if (value != null) {
+                putLocal(key, value, timeUnit.toNanos(ttl));
+            }
+        });
+    }
+
+    @Override
+    public <T> Map<String, T> getOrElseAll(Collection<String> keys, long ttl, TimeUnit timeUnit,
+                                           Function<Collection<String>, Map<String, T>> loader, Class<T> type) {
+        Map<String, T> result = getAll(keys, type);
+        List<String> missing = keys.stream()
+                .filter(key -> !result.containsKey(key))
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<String, T> loaded = loader.apply(missing);
+        if (loaded != null && !loaded.isEmpty()) {
+            putAll(loaded, ttl, timeUnit);
+            result.putAll(loaded);
+        }
+        return RedisCacheService.orderByKeys(keys, result);
+    }
+
+    @Override
+    public void evict(String key) {
+        invalidateLocal(key);
+        redisCacheService.evict(key);
+        publishInvalidation(TYPE_KEY, key);
+    }
+
+    @Override
+    public long evictByPattern(String pattern) {
+        evictLocalByPattern(pattern);
+        long deleted = redisCacheService.evictByPattern(pattern);
+        publishInvalidation(TYPE_PATTERN, pattern);
+        return deleted;
+    }
+
+    @Override
+    public void tag(String key, long ttl, TimeUnit timeUnit, String... tags) {
+        redisCacheService.tag(key, ttl, timeUnit, tags);
+    }
+
+    /**
+     * 삭제한 배치의 키만 L1에서 무효화하고 다른 노드에 전파 (패턴 전파 없이 키 목록으로)
+     */
+    @Override
+    public long evictByTag(String tag) {
+        return redisCacheService.evictByTag(tag, keys -> {
+            keys.forEach(this::invalidateLocal);
+            publishInvalidation(TYPE_KEYS, String.join(KEYS_DELIMITER, keys));
+        });
+    }
+
+    @Override
+    public boolean exists(String key) {
+        if (properties.isEnabled() && localCache.getIfPresent(key) != null) {
+            return true;
+        }
+        return redisCacheService.exists(key);
+    }
+
+    @Override
+    public long getTtl(String key) {
+        return redisCacheService.getTtl(key);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신
+     * 메시지 형식: {nodeId}|{K, P 또는 M}|{키, 패턴 또는 줄바꿈으로 구분된 키 목록}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(Pattern.quote(MESSAGE_DELIMITER), 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        if (TYPE_PATTERN.equals(parts[1])) {
+            evictLocalByPattern(parts[2]);
+        } else if (TYPE_KEYS.equals(parts[1])) {
+            for (String key : parts[2].split(KEYS_DELIMITER)) {
+                invalidateLocal(key);
+            }
+        } else {
+            invalidateLocal(parts[2]);
+        }
+        log.debug("L1 캐시 무효화 수신: type={}, target={}", parts[1], parts[2]);
+    }
+
+    /**
+     * 무효화 채널 구독 완료 (기동 시와 Redis 연결 복구 후 재구독 시)
+     * 구독이 끊긴 동안 놓친 무효화 메시지가 있을 수 있으므로 L1을 비운다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        clearLocal();
+        log.info("L1 캐시 무효화 채널 구독, L1 초기화: channel={}", new String(channel, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * L1 캐시 전체 비우기 (Redis 연결 복구 등으로 무효화 메시지를 놓쳤을 때)
+     */
+    public void clearLocal() {
+        globalGeneration.incrementAndGet();
+        localCache.invalidateAll();
+    }
+
+    private NearCacheEntry putLocal(String key, Object value, long ttlNanos) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        long localTtl = Math.min(ttlNanos, properties.getMaxTtl().toNanos());
+        NearCacheEntry entry = new NearCacheEntry(value, localTtl);
+        localCache.put(key, entry);
+        return entry;
+    }
+
+    /**
+     * 세대를 올린 뒤 제거 (진행 중인 Redis 조회가 이전 값을 L1에 저장하지 못하도록)
+     */
+    private void invalidateLocal(String key) {
+        nextGeneration(key);
+        localCache.invalidate(key);
+    }
+
+    private void nextGeneration(String key) {
+        keyGenerations.incrementAndGet(stripeOf(key));
+    }
+
+    private long generationOf(String key) {
+        return globalGeneration.get() + keyGenerations.get(stripeOf(key));
+    }
+
+    private static int stripeOf(String key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    /**
+     * Redis에서 읽은 값을 L1에 저장
+     * L1 TTL은 Redis 키의 남은 TTL을 넘지 않도록 제한 (Redis보다 L1이 늦게 만료되지 않게)
+     * 키가 이미 없거나 TTL을 확인하지 못하면 L1에 저장하지 않는다.
+     * 조회 시작 후 키가 무효화되었으면(세대 변경) 저장하지 않고, 저장 직후 무효화된 경우에도 되돌린다.
+     * @param generations 조회 직전의 키별 세대
+     */
+    private void putLocalFromRedis(Map<String, ?> values, Map<String, Long> generations) {
+        if (!properties.isEnabled() || values.isEmpty()) {
+            return;
+        }
+        long maxTtlNanos = properties.getMaxTtl().toNanos();
+        Map<String, Long> remainingTtls = redisCacheService.getRemainingTtlMillis(values.keySet());
+        values.forEach((key, value) -> {
+            Long remainingMillis = remainingTtls.get(key);
+            if (remainingMillis == null || remainingMillis == -2 || remainingMillis == 0) {
+                return;
+            }
+            long ttlNanos = remainingMillis < 0
+                    ? maxTtlNanos
+                    : Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+            Long generation = generations.get(key);
+            if (generation == null || generation != generationOf(key)) {
+                return;
+            }
+            NearCacheEntry entry = putLocal(key, value, ttlNanos);
+            if (entry != null && generation != generationOf(key)) {
+                localCache.asMap().remove(key, entry);
+            }
+        });
+    }
+
+    private void evictLocalByPattern(String pattern) {
+        globalGeneration.incrementAndGet();
+        Pattern regex = globToRegex(pattern);
+        localCache.asMap().keySet().removeIf(k -> regex.matcher(k).matches());
+    }
+
+    private void publishInvalidation(String type, String target) {
+        try {
+            stringRedisTemplate.convertAndSend(properties.getInvalidationChannel(),
+                    nodeId + MESSAGE_DELIMITER + type + MESSAGE_DELIMITER + target);
+        } catch (Exception e) {
+            log.error("L1 캐시 무효화 메시지 발행 실패: target={}", target, e);
+            cacheMetrics.error(CACHE_NEAR, target, "publish");
+        }
+    }
+
+    /**
+     * Redis glob 패턴(*, ?)을 정규식으로 변환
+     */
+    static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * L1 캐시 엔트리 (값과 엔트리별 TTL)
+     */
+    public record NearCacheEntry(Object value, long ttlNanos) {
+    }
+}
@@ -1,40 +1,80 @@
 package com.pullit.common.cache.service;
 
+import com.pullit.common.cache.metrics.CacheMetrics;
+import com.pullit.common.config.properties.CacheProperties;
+import com.pullit.common.config.properties.CacheProperties.Eviction;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.pullit.common.cache.metrics.CacheMetrics.CACHE_REDIS;
 import static com.pullit.common.constants.CacheConstants.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisCacheService implements CacheService {
+    // 태그 Set에 키를 추가하고, Set의 남은 TTL이 키 TTL보다 짧을 때만 연장
+    private static final RedisScript<Long> TAG_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('sadd', KEYS[1], ARGV[1]) "
+                    + "if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then redis.call('pexpire', KEYS[1], ARGV[2]) end "
+                    + "return 1",
+            Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheLoadCoordinator loadCoordinator;
+    private final CacheProperties cacheProperties;
+    private final CacheMetrics cacheMetrics;
+
+    // 조기 갱신으로 값이 바뀐 키 통지 (NearCacheService가 L1 무효화에 사용)
+    private volatile Consumer<String> refreshListener = key -> { };
 
     /**
      * 캐시에서 값 조회
      * 캐시 히트/미스 로깅
      */
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T get(String key, Class<T> type) {
+        return lookup(key, type, true);
+    }
+
+    /**
+     * @param record 히트/미스 메트릭 기록 여부 (적재 직전 재확인은 기록하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T lookup(String key, Class<T> type, boolean record) {
         try {
             Object value = redisTemplate.opsForValue().get(key);
 
             if (value == null) {
                 // CacheConstants의 메시지 사용
                 log.debug(MSG_CACHE_MISS, key);
+                if (record) {
+                    cacheMetrics.miss(CACHE_REDIS, key);
+                }
                 return null;
             }
 
             // CacheConstants의 메시지 사용
             log.debug(MSG_CACHE_HIT, key);
+            if (record) {
+                cacheMetrics.hit(CACHE_REDIS, key);
+            }
 
             // 타입 체크 후 캐스팅
             if (type.isInstance(value)) {
@@ -47,6 +87,7 @@ public class RedisCacheService implements CacheService {
         } catch (Exception e) {
             // CacheConstants의 메시지 사용
             log.error(MSG_CACHE_ERROR, key, e);
+            cacheMetrics.error(CACHE_REDIS, key, "get");
             return null;  // 캐시 실패 시 null 반환 (fallback)
         }
     }
@@ -70,6 +111,7 @@ public class RedisCacheService implements CacheService {
         } catch (Exception e) {
             // CacheConstants의 메시지 사용
             log.error(MSG_CACHE_ERROR, key, e);
+            cacheMetrics.error(CACHE_REDIS, key, "put");
             // 캐시 실패가 비즈니스 로직에 영향을 주지 않도록 예외를 전파하지 않음
         }
     }
@@ -85,37 +127,270 @@ public class RedisCacheService implements CacheService {
     }
 
     /**
-     * Cache-Aside 패턴
-     * 캐시에 없으면 Supplier로 값을 생성하여 캐시에 저장
+     * Cache-Aside 패턴 (스탬피드 방지)
+     * 캐시에 없으면 키별 single-flight로 한 번만 Supplier를 실행하여 저장하고,
+     * 만료가 가까운 키는 XFetch 확률로 백그라운드에서 미리 갱신한다.
      */
     @Override
     public <T> T getOrElse(String key, long ttl, TimeUnit timeUnit,
                            Supplier<T> valueSupplier, Class<T> type) {
-        // 1. 캐시에서 먼저 조회
-        T cached = get(key, type);
+        // 1. 캐시에서 먼저 조회 (값, 남은 TTL, 적재 소요시간을 한 번에)
+        T cached = getWithEarlyRefresh(key, ttl, timeUnit, valueSupplier, type);
         if (cached != null) {
             return cached;
         }
 
-        // 2. 캐시에 없으면 값 생성
-        log.debug("캐시 미스로 인한 값 생성: key={}", key);
+        // 2. 캐시에 없으면 같은 키의 동시 요청 중 하나만 값 생성
+        return loadCoordinator.loadOnce(key, () -> {
+            T loaded = lookup(key, type, false);
+            if (loaded != null) {
+                return loaded;
+            }
+            log.debug("캐시 미스로 인한 값 생성: key={}", key);
+            return stampedeProperties().isDistributedLockEnabled()
+                    ? loadWithLock(key, ttl, timeUnit, valueSupplier, type)
+                    : loadAndPut(key, ttl, timeUnit, valueSupplier);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getWithEarlyRefresh(String key, long ttl, TimeUnit timeUnit,
+                                      Supplier<T> valueSupplier, Class<T> type) {
+        if (!stampedeProperties().isEarlyRefreshEnabled()) {
+            return get(key, type);
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForValue().get(key);
+                    ops.getExpire(key, TimeUnit.MILLISECONDS);
+                    ops.opsForValue().get(key + KEY_SUFFIX_LOAD_TIME);
+                    return null;
+                }
+            });
+
+            Object value = results.get(0);
+            if (value == null) {
+                log.debug(MSG_CACHE_MISS, key);
+                cacheMetrics.miss(CACHE_REDIS, key);
+                return null;
+            }
+            if (!type.isInstance(value)) {
+                log.warn("캐시 타입 불일치: key={}, expected={}, actual={}",
+                        key, type.getName(), value.getClass().getName());
+                return null;
+            }
+            log.debug(MSG_CACHE_HIT, key);
+            cacheMetrics.hit(CACHE_REDIS, key);
+
+            long remainingTtl = results.get(1) instanceof Number n ? n.longValue() : -1;
+            long delta = results.get(2) instanceof Number n ? n.longValue() : 0;
+            if (loadCoordinator.shouldRefreshEarly(delta, remainingTtl)) {
+                log.debug("캐시 조기 갱신: key={}, remainingTtl={}ms, delta={}ms", key, remainingTtl, delta);
+                loadCoordinator.refreshAsync(key, () -> {
+                    if (loadAndPut(key, ttl, timeUnit, valueSupplier) != null) {
+                        refreshListener.accept(key);
+                    }
+                });
+            }
+            return (T) value;
+        } catch (Exception e) {
+            log.error(MSG_CACHE_ERROR, key, e);
+            cacheMetrics.error(CACHE_REDIS, key, "get");
+            return null;
+        }
+    }
+
+    /**
+     * 노드 간 single-flight
+     * 락을 얻은 노드만 적재하고, 나머지는 값이 채워질 때까지 대기한다.
+     * 대기 시간을 넘기면 DB 보호보다 응답을 우선하여 직접 적재한다.
+     */
+    private <T> T loadWithLock(String key, long ttl, TimeUnit timeUnit,
+                               Supplier<T> valueSupplier, Class<T> type) {
+        CacheProperties.Stampede properties = stampedeProperties();
+        long deadline = System.nanoTime() + properties.getLockWaitTimeout().toNanos();
+
+        while (true) {
+            String token = loadCoordinator.tryLock(key);
+            if (token != null) {
+                try {
+                    T cached = lookup(key, type, false);
+                    return cached != null ? cached : loadAndPut(key, ttl, timeUnit, valueSupplier);
+                } finally {
+                    loadCoordinator.unlock(key, token);
+                }
+            }
+
+            if (System.nanoTime() >= deadline) {
+                log.warn("캐시 적재 락 대기 시간 초과, 직접 적재: key={}", key);
+                return loadAndPut(key, ttl, timeUnit, valueSupplier);
+            }
+
+            try {
+                Thread.sleep(properties.getLockPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loadAndPut(key, ttl, timeUnit, valueSupplier);
+            }
+
+            T cached = lookup(key, type, false);
+            if (cached != null) {
+                return cached;
+            }
+        }
+    }
+
+    /**
+     * 값 생성 후 저장, XFetch 판단을 위해 생성 소요시간도 함께 저장
+     */
+    private <T> T loadAndPut(String key, long ttl, TimeUnit timeUnit, Supplier<T> valueSupplier) {
+        long start = System.currentTimeMillis();
         T value = valueSupplier.get();
+        long delta = System.currentTimeMillis() - start;
+        cacheMetrics.recordLoad(CACHE_REDIS, key, delta);
 
-        // 3. 생성된 값을 캐시에 저장
         if (value != null) {
             put(key, value, ttl, timeUnit);
+            if (stampedeProperties().isEarlyRefreshEnabled()) {
+                put(key + KEY_SUFFIX_LOAD_TIME, delta, ttl, timeUnit);
+            }
         }
-
         return value;
     }
 
+    /**
+     * 조기 갱신 후 호출할 리스너 등록 (갱신 스레드에서 호출됨)
+     */
+    public void setRefreshListener(Consumer<String> refreshListener) {
+        this.refreshListener = refreshListener;
+    }
+
+    private CacheProperties.Stampede stampedeProperties() {
+        return cacheProperties.getStampede();
+    }
+
+    /**
+     * 여러 키 일괄 조회
+     * MGET 한 번으로 N개 키를 조회 (N번 왕복 대신 1번)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(keyList);
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < keyList.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                    cacheMetrics.miss(CACHE_REDIS, keyList.get(i));
+                    continue;
+                }
+                cacheMetrics.hit(CACHE_REDIS, keyList.get(i));
+                if (type.isInstance(value)) {
+                    result.put(keyList.get(i), (T) value);
+                } else {
+                    log.warn("캐시 타입 불일치: key={}, expected={}, actual={}",
+                            keyList.get(i), type.getName(), value.getClass().getName());
+                }
+            }
+            log.debug("일괄 캐시 조회: requested={}, hit={}", keyList.size(), result.size());
+        } catch (Exception e) {
+            log.error("일괄 캐시 조회 실패: count={}", keyList.size(), e);
+            cacheMetrics.error(CACHE_REDIS, keyList.get(0), "getAll");
+        }
+        return result;
+    }
+
+    /**
+     * 여러 값 일괄 저장
+     * SET EX 명령을 파이프라인으로 묶어 한 번에 전송
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void putAll(Map<String, ?> values, long ttl, TimeUnit timeUnit) {
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    values.forEach((key, value) -> {
+                        if (value != null) {
+                            ops.opsForValue().set(key, value, ttl, timeUnit);
+                        }
+                    });
+                    return null;
+                }
+            });
+            log.debug("일괄 캐시 저장: count={}, ttl={} {}", values.size(), ttl, timeUnit);
+        } catch (Exception e) {
+            log.error("일괄 캐시 저장 실패: count={}", values.size(), e);
+            cacheMetrics.error(CACHE_REDIS, values.keySet().iterator().next(), "putAll");
+        }
+    }
+
+    /**
+     * 일괄 Cache-Aside 패턴
+     * 미스난 키만 loader로 한 번에 적재
+     */
+    @Override
+    public <T> Map<String, T> getOrElseAll(Collection<String> keys, long ttl, TimeUnit timeUnit,
+                                           Function<Collection<String>, Map<String, T>> loader, Class<T> type) {
+        Map<String, T> result = getAll(keys, type);
+        List<String> missing = keys.stream()
+                .filter(key -> !result.containsKey(key))
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        log.debug("일괄 캐시 미스로 인한 값 생성: count={}", missing.size());
+        long start = System.currentTimeMillis();
+        Map<String, T> loaded = loader.apply(missing);
+        cacheMetrics.recordLoad(CACHE_REDIS, missing.get(0), System.currentTimeMillis() - start);
+        if (loaded != null && !loaded.isEmpty()) {
+            putAll(loaded, ttl, timeUnit);
+            result.putAll(loaded);
+        }
+        return orderByKeys(keys, result);
+    }
+
+    /**
+     * 요청한 키 순서대로 결과 정렬
+     */
+    static <T> Map<String, T> orderByKeys(Collection<String> keys, Map<String, T> values) {
+        Map<String, T> ordered = new LinkedHashMap<>();
+        for (String key : keys) {
+            T value = values.get(key);
+            if (value != null) {
+                ordered.put(key, value);
+            }
+        }
+        return ordered;
+    }
+
     /**
      * 캐시 삭제
      */
     @Override
     public void evict(String key) {
         try {
-            Boolean deleted = redisTemplate.delete(key);
+            // XFetch 적재 소요시간 키도 함께 삭제 (다음 적재가 이전 값을 쓰지 않도록)
+            Long deleted = redisTemplate.delete(List.of(key, key + KEY_SUFFIX_LOAD_TIME));
             // CacheConstants의 메시지 사용
             log.debug(MSG_CACHE_DELETED, key, deleted);
         } catch (Exception e) {
@@ -127,20 +402,126 @@ public class RedisCacheService implements CacheService {
     /**
      * 패턴과 일치하는 모든 캐시 삭제
      * 와일드카드(*) 패턴 지원
+     * KEYS 대신 커서 기반 SCAN으로 키를 흘려 받아 배치 단위 UNLINK (Redis 블로킹 없음)
+     */
+    @Override
+    public long evictByPattern(String pattern) {
+        Eviction properties = cacheProperties.getEviction();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(pattern)
+                .count(properties.getScanCount())
+                .build();
+
+        long scanned = 0;
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(properties.getUnlinkBatchSize());
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                scanned++;
+                if (batch.size() >= properties.getUnlinkBatchSize()) {
+                    deleted += unlink(batch);
+                    batch.clear();
+                    log.debug("패턴 캐시 삭제 진행: pattern={}, scanned={}, deleted={}", pattern, scanned, deleted);
+                }
+            }
+            deleted += unlink(batch);
+            log.debug("패턴 캐시 삭제: pattern={}, count={}", pattern, deleted);
+        } catch (Exception e) {
+            log.error("패턴 캐시 삭제 실패: pattern={}, deleted={}", pattern, deleted, e);
+            cacheMetrics.error(CACHE_REDIS, pattern, "evictByPattern");
+        }
+        return deleted;
+    }
+
+    /**
+     * 키를 태그 인덱스(Set)에 등록
+     * Set의 TTL을 등록된 키 중 가장 긴 TTL로 맞춰, 삭제되지 않은 태그 Set이 계속 쌓이지 않도록 한다.
      */
     @Override
-    public void evictByPattern(String pattern) {
+    public void tag(String key, long ttl, TimeUnit timeUnit, String... tags) {
+        String ttlMillis = String.valueOf(timeUnit.toMillis(ttl));
         try {
-            // SCAN을 사용하여 패턴과 일치하는 키 조회
-            Set<String> keys = redisTemplate.keys(pattern);
+            for (String tag : tags) {
+                stringRedisTemplate.execute(TAG_SCRIPT, List.of(KEY_PREFIX_TAG + tag), key, ttlMillis);
+            }
+        } catch (Exception e) {
+            log.error(MSG_CACHE_ERROR, key, e);
+            cacheMetrics.error(CACHE_REDIS, key, "tag");
+        }
+    }
 
-            if (keys != null && !keys.isEmpty()) {
-                Long deleted = redisTemplate.delete(keys);
-                log.debug("패턴 캐시 삭제: pattern={}, count={}", pattern, deleted);
+    @Override
+    public long evictByTag(String tag) {
+        return evictByTag(tag, keys -> { });
+    }
+
+    /**
+     * 태그에 등록된 키 전체 삭제 (O(그룹 크기))
+     * 삭제 중 새로 등록되는 키가 지워질 Set에 섞이지 않도록 Set 이름을 먼저 바꾼 뒤 SSCAN으로 배치 UNLINK 한다.
+     * @param deletedBatch UNLINK한 배치마다 호출 (NearCacheService의 L1 무효화 전파용)
+     */
+    public long evictByTag(String tag, Consumer<List<String>> deletedBatch) {
+        Eviction properties = cacheProperties.getEviction();
+        String tagKey = KEY_PREFIX_TAG + tag;
+        String evictingKey = tagKey + KEY_DELIMITER + UUID.randomUUID();
+        ScanOptions options = ScanOptions.scanOptions()
+                .count(properties.getScanCount())
+                .build();
+
+        long deleted = 0;
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(tagKey))) {
+                return 0;
+            }
+            stringRedisTemplate.rename(tagKey, evictingKey);
+
+            List<String> batch = new ArrayList<>(properties.getUnlinkBatchSize());
+            try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(evictingKey, options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= properties.getUnlinkBatchSize()) {
+                        deleted += unlink(batch);
+                        deletedBatch.accept(batch);
+                        batch = new ArrayList<>(properties.getUnlinkBatchSize());
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                deleted += unlink(batch);
+                deletedBatch.accept(batch);
             }
+            stringRedisTemplate.unlink(evictingKey);
+            log.debug("태그 캐시 삭제: tag={}, count={}", tag, deleted);
         } catch (Exception e) {
-            log.error("패턴 캐시 삭제 실패: pattern={}", pattern, e);
+            log.error("태그 캐시 삭제 실패: tag={}, deleted={}", tag, deleted, e);
+            cacheMetrics.error(CACHE_REDIS, tagKey, "evictByTag");
+        }
+        return deleted;
+    }
+
+    /**
+     * 키와 XFetch 적재 소요시간 키를 함께 UNLINK
+     * @return 삭제된 캐시 키 개수 (적재 소요시간 키는 세지 않음)
+     */
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
         }
+        List<String> cacheKeys = new ArrayList<>(keys.size());
+        Set<String> loadTimeKeys = new HashSet<>(keys.size());
+        for (String key : keys) {
+            if (key.endsWith(KEY_SUFFIX_LOAD_TIME)) {
+                loadTimeKeys.add(key);
+            } else {
+                cacheKeys.add(key);
+                loadTimeKeys.add(key + KEY_SUFFIX_LOAD_TIME);
+            }
+        }
+        Long count = cacheKeys.isEmpty() ? Long.valueOf(0) : redisTemplate.unlink(cacheKeys);
+        redisTemplate.unlink(loadTimeKeys);
+        return count != null ? count : 0;
     }
 
     /**
@@ -173,6 +554,39 @@ public class RedisCacheService implements CacheService {
         }
     }
 
+    /**
+     * 여러 키의 남은 TTL(밀리초) 일괄 조회
+     * PTTL을 파이프라인으로 묶어 한 번에 전송, 만료 없음은 -1, 없는 키는 -2
+     * 조회에 실패한 키는 결과에 포함하지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Long> getRemainingTtlMillis(Collection<String> keys) {
+        Map<String, Long> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        try {
+            List<Object> ttls = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    keyList.forEach(key -> ops.getExpire(key, TimeUnit.MILLISECONDS));
+                    return null;
+                }
+            });
+            for (int i = 0; i < keyList.size(); i++) {
+                if (ttls.get(i) instanceof Number ttl) {
+                    result.put(keyList.get(i), ttl.longValue());
+                }
+            }
+        } catch (Exception e) {
+            log.error("TTL 일괄 조회 실패: count={}", keyList.size(), e);
+        }
+        return result;
+    }
+
     /**
      * 캐시 키 생성 헬퍼 메소드
      * CacheConstants의 프리픽스와 구분자 사용
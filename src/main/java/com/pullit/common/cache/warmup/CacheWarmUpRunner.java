@@ -0,0 +1,101 @@
+package com.pullit.common.cache.warmup;
+
+import com.pullit.common.cache.service.CacheService;
+import com.pullit.common.config.properties.CacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시작 시 캐시 워밍업
+ * ApplicationRunner는 ApplicationReadyEvent 이전에 실행되므로, 워밍업이 끝나기 전까지
+ * readiness(/actuator/health/readiness)는 REFUSING_TRAFFIC 상태로 유지되어
+ * 로드밸런서가 워밍업된 인스턴스로만 트래픽을 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUpRunner implements ApplicationRunner {
+
+    private final List<CacheWarmer> cacheWarmers;
+    private final CacheService cacheService;
+    private final CacheProperties cacheProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        CacheProperties.WarmUp properties = cacheProperties.getWarmUp();
+        if (!properties.isEnabled() || cacheWarmers.isEmpty()) {
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.currentTimeMillis();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            for (CacheWarmer warmer : cacheWarmers) {
+                warmUp(warmer, executor, properties);
+            }
+            log.info("캐시 워밍업 완료: warmers={}, {}ms", cacheWarmers.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            if (properties.isFailOnError()) {
+                throw e;
+            }
+            log.error("캐시 워밍업 실패, 콜드 캐시로 시작", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 로더를 병렬 실행한 뒤 결과를 파이프라인으로 한 번에 저장
+     */
+    private void warmUp(CacheWarmer warmer, ExecutorService executor, CacheProperties.WarmUp properties) {
+        long start = System.currentTimeMillis();
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        warmer.warmUpLoaders().forEach((key, loader) -> futures.put(key, executor.submit(loader::get)));
+
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        Map<String, Object> values = new LinkedHashMap<>();
+        int failed = 0;
+        for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+            try {
+                Object value = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (value != null) {
+                    values.put(entry.getKey(), value);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("캐시 워밍업 중단: " + warmer.warmUpName(), e);
+            } catch (ExecutionException | TimeoutException e) {
+                failed++;
+                entry.getValue().cancel(true);
+                log.warn("캐시 워밍업 로더 실패: warmer={}, key={}", warmer.warmUpName(), entry.getKey(), e);
+            }
+        }
+
+        cacheService.putAll(values, warmer.warmUpTtlSeconds(), TimeUnit.SECONDS);
+        log.info("캐시 워밍업: warmer={}, loaded={}, failed={}, {}ms",
+                warmer.warmUpName(), values.size(), failed, System.currentTimeMillis() - start);
+
+        if (failed > 0 && properties.isFailOnError()) {
+            throw new IllegalStateException("캐시 워밍업 실패: " + warmer.warmUpName() + ", failed=" + failed);
+        }
+    }
+}
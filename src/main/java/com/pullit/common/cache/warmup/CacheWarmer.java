@@ -0,0 +1,26 @@
+package com.pullit.common.cache.warmup;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 애플리케이션 시작 시 미리 채워둘 캐시 정의
+ * 정적인 참조 데이터(교과서, 단원 등)를 소유한 서비스가 구현한다.
+ */
+public interface CacheWarmer {
+
+    /**
+     * 로그/메트릭용 이름
+     */
+    String warmUpName();
+
+    /**
+     * 캐시 키별 값 로더 (병렬로 실행되므로 서로 독립적이어야 함)
+     */
+    Map<String, Supplier<?>> warmUpLoaders();
+
+    /**
+     * 워밍업 값의 TTL (초)
+     */
+    long warmUpTtlSeconds();
+}
@@ -1,25 +1,33 @@
 package com.pullit.common.config;
 
+import com.pullit.common.cache.response.CachedResponseInterceptor;
 import com.pullit.common.resolver.AuthUserArgumentResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
 
 /**
  * Web MVC 설정
- * 커스텀 ArgumentResolver 등록
+ * 커스텀 ArgumentResolver, 응답 캐시 인터셉터 등록
  */
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
     
     private final AuthUserArgumentResolver authUserArgumentResolver;
+    private final CachedResponseInterceptor cachedResponseInterceptor;
     
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(authUserArgumentResolver);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(cachedResponseInterceptor);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.pullit.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    private Near near = new Near();
+    private Compression compression = new Compression();
+    private Stampede stampede = new Stampede();
+    private Eviction eviction = new Eviction();
+    private Serializer serializer = new Serializer();
+    private WarmUp warmUp = new WarmUp();
+    private Response response = new Response();
+
+    /**
+     * 2단계 캐시의 로컬(L1) 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class Near {
+        private boolean enabled = true;
+        private long maximumWeightBytes = 64L * 1024 * 1024; // 64MB
+        private Duration maxTtl = Duration.ofMinutes(5);
+        private String invalidationChannel = "cache:invalidation";
+    }
+
+    /**
+     * @RedisCacheable(compress = true) 압축 설정
+     */
+    @Getter
+    @Setter
+    public static class Compression {
+        private int thresholdBytes = 1024; // 이 크기 미만은 압축하지 않음
+    }
+
+    /**
+     * getOrElse 스탬피드 방지 설정
+     */
+    @Getter
+    @Setter
+    public static class Stampede {
+        private boolean distributedLockEnabled = false;
+        private Duration lockTtl = Duration.ofSeconds(10);
+        private Duration lockWaitTimeout = Duration.ofSeconds(3);
+        private Duration lockPollInterval = Duration.ofMillis(50);
+        private boolean earlyRefreshEnabled = true;
+        private double earlyRefreshBeta = 1.0;
+        private int refreshThreads = 2;
+        private int refreshQueueCapacity = 100;
+    }
+
+    /**
+     * 패턴/태그 삭제 설정 (SCAN + UNLINK)
+     */
+    @Getter
+    @Setter
+    public static class Eviction {
+        private int scanCount = 1000;       // SCAN 1회당 힌트 개수
+        private int unlinkBatchSize = 500;  // UNLINK 1회당 키 개수
+    }
+
+    /**
+     * RedisTemplate 값 직렬화 설정
+     */
+    @Getter
+    @Setter
+    public static class Serializer {
+        private String codec = "smile";  // smile | json
+    }
+
+    /**
+     * 시작 시 캐시 워밍업 설정
+     */
+    @Getter
+    @Setter
+    public static class WarmUp {
+        private boolean enabled = true;
+        private int threads = 4;
+        private Duration timeout = Duration.ofSeconds(60);
+        private boolean failOnError = false;  // true면 워밍업 실패 시 기동 중단
+    }
+
+    /**
+     * @CachedResponse 응답 바이트 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class Response {
+        private boolean enabled = true;
+        private int gzipMinBytes = 256;  // 이 크기 미만은 gzip 본문을 만들지 않음
+    }
+}
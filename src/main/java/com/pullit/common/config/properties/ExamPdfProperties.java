@@ -0,0 +1,32 @@
+package com.pullit.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시험지 PDF 생성 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "exam-pdf")
+public class ExamPdfProperties {
+    private int workerThreads = 2;
+    private int queueCapacity = 50;                               // 초과 시 요청 거절 (429)
+    private String storageDir = "data/exam-pdf";                  // 재시작 후에도 남는 경로 (다중 노드는 공유 볼륨)
+    private String fontLocation = "classpath:fonts/NanumGothic.ttf"; // 한글 글꼴(TTF), file: 경로로 교체 가능
+    // font-location이 없을 때 차례로 찾는 시스템 한글 글꼴 (Docker 이미지는 fonts-nanum 설치)
+    private List<String> fallbackFontLocations = new ArrayList<>(List.of(
+            "file:/usr/share/fonts/truetype/nanum/NanumGothic.ttf",
+            "file:/usr/share/fonts/truetype/noto/NotoSansKR-Regular.ttf",
+            "file:/usr/share/fonts/truetype/unfonts-core/UnDotum.ttf",
+            "file:C:/Windows/Fonts/malgun.ttf"));
+    private Duration jobRetention = Duration.ofHours(1);          // 작업 상태 보관 기간
+    private Duration maxWait = Duration.ofSeconds(30);            // 상태 조회 롱폴링 최대 대기
+}
@@ -0,0 +1,19 @@
+package com.pullit.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청당 SQL 실행 횟수 감시 설정 (N+1 탐지)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sql-monitor")
+public class SqlMonitorProperties {
+    private boolean enabled = true;
+    private int maxStatementsPerRequest = 30;  // 초과 시 경고 로그
+    private boolean failOnExceed = false;      // true면 한도를 넘는 SQL 실행 시 예외 (테스트용)
+}
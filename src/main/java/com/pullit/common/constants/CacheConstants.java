@@ -16,6 +16,7 @@ public class CacheConstants {
     public static final long MEDIUM_TTL_SECONDS = 1800L;            // 30분
     public static final long LONG_TTL_SECONDS = 7200L;              // 2시간
     public static final long DAILY_TTL_SECONDS = 86400L;            // 24시간
+    public static final long REFERENCE_TTL_SECONDS = DAILY_TTL_SECONDS;  // 교과서/단원 등 참조 데이터
 
     // TTL 설정 (분 단위)
     public static final long DEFAULT_TTL_MINUTES = 60L;
@@ -29,10 +30,28 @@ public class CacheConstants {
     public static final String KEY_PREFIX_SESSION = "session:";
     public static final String KEY_PREFIX_TOKEN = "token:";
     public static final String KEY_PREFIX_TEMP = "temp:";
+    public static final String KEY_PREFIX_METHOD = "method:";
+    public static final String KEY_PREFIX_LOCK = "lock:";
+    public static final String KEY_PREFIX_TAG = "tag:";  // 태그 인덱스 Set (tag:{태그} -> 캐시 키 목록)
+    public static final String KEY_PREFIX_SUBJECT = "subject:";
+    public static final String KEY_PREFIX_CHAPTER = "chapter:";
+    public static final String KEY_SUBJECT_ALL = KEY_PREFIX_SUBJECT + "all";
+    public static final String KEY_PREFIX_SUBJECT_STATS = KEY_PREFIX_SUBJECT + "stats:";
+    public static final String KEY_SUBJECT_STATS_ALL = KEY_PREFIX_SUBJECT_STATS + "all";
+    public static final String KEY_PREFIX_CHAPTER_BY_SUBJECT = KEY_PREFIX_CHAPTER + "subject:";
+    public static final String KEY_PREFIX_CHAPTER_TREE = KEY_PREFIX_CHAPTER + "tree:json:";  // 직렬화된 트리 JSON
+    public static final String KEY_PREFIX_ITEM = "item:";
+    public static final String KEY_PREFIX_ITEM_DETAIL = KEY_PREFIX_ITEM + "detail:";  // 문항 상세 (HTML 포함, 압축 저장)
+    public static final String KEY_PREFIX_EXAM_PDF_JOB = "exam:pdf:job:";  // 시험지 PDF 생성 작업 상태
+    public static final String KEY_PREFIX_RESPONSE = "response:";  // @CachedResponse 응답 바이트 (response:{경로}?{@RequestParam 이름순})
 
     // 캐시 키 구분자
     public static final String KEY_DELIMITER = ":";
     public static final String KEY_WILDCARD = "*";
+    public static final String KEY_SUFFIX_LOAD_TIME = ":__delta";    // XFetch용 적재 소요시간(ms)
+
+    // 캐시 태그 (그룹 단위 삭제)
+    public static final String TAG_CHAPTER_RESPONSE = "chapter-response";  // /api/chapter 하위 @CachedResponse 응답
 
     // Redis 설정
     public static final int REDIS_MAX_CONNECTIONS = 100;
@@ -46,5 +65,6 @@ public class CacheConstants {
     public static final String MSG_CACHE_SAVED = "캐시 저장: key={}, ttl={} {}";
     public static final String MSG_CACHE_DELETED = "캐시 삭제: key={}, deleted={}";
     public static final String MSG_CACHE_ERROR = "캐시 작업 실패: key={}";
+    public static final String MSG_NEAR_CACHE_HIT = "L1 캐시 히트: key={}";
 
 }
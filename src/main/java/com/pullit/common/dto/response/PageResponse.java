@@ -1,5 +1,6 @@
 package com.pullit.common.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +24,8 @@ public class PageResponse<T> {
     private boolean last;             // 마지막 페이지 여부
     private boolean empty;            // 데이터 없음 여부
     private int numberOfElements;     // 현재 페이지의 데이터 개수
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;        // 다음 페이지 커서 (커서 기반 조회 시, 마지막 페이지면 null)
 
     // Spring Data Page 객체로부터 생성
     public static <T> PageResponse<T> from(Page<T> page) {
@@ -53,4 +56,17 @@ public class PageResponse<T> {
                 .numberOfElements(content.size())
                 .build();
     }
+
+    // 커서(키셋) 기반 조회 결과로 생성 (전체 개수/페이지 수는 계산하지 않음)
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, boolean first, String nextCursor) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageSize(size)
+                .first(first)
+                .last(nextCursor == null)
+                .empty(content.isEmpty())
+                .numberOfElements(content.size())
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
@@ -20,4 +20,11 @@ public abstract class FullAuditEntity extends BaseTimeEntity {
     @LastModifiedBy
     @Column(name = "updated_by")
     private Long updatedBy;
+
+    /**
+     * 생성자 지정 (보안 컨텍스트 밖에서 저장하거나 요청 사용자를 명시할 때)
+     */
+    protected void assignCreatedBy(Long userId) {
+        this.createdBy = userId;
+    }
 }
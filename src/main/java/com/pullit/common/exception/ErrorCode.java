@@ -44,6 +44,13 @@ public enum ErrorCode {
     FILE_SIZE_EXCEEDED("FILE_004", "파일 크기가 제한을 초과했습니다.", HttpStatus.BAD_REQUEST),
     FILE_DELETE_FAILED("FILE_005", "파일 삭제에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 
+    // ========== 문항 관련 에러 (ITEM) ==========
+    ITEM_NOT_FOUND("ITEM_001", "문항을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+
+    // ========== 시험지 관련 에러 (EXAM) ==========
+    EXAM_NOT_FOUND("EXAM_001", "시험지를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    EXAM_PDF_JOB_NOT_FOUND("EXAM_002", "PDF 생성 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+
     // ========== 비즈니스 로직 에러 (BUSINESS) ==========
     INVALID_BUSINESS_LOGIC("BIZ_001", "비즈니스 로직 오류가 발생했습니다.", HttpStatus.BAD_REQUEST),
     DUPLICATE_RESOURCE("BIZ_002", "이미 존재하는 리소스입니다.", HttpStatus.CONFLICT),
@@ -0,0 +1,79 @@
+package com.pullit.common.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 횟수 집계 (Hibernate StatementInspector)
+ * SqlStatementCountFilter가 시작한 요청 스레드에서만 집계하며, SQL은 변경하지 않는다.
+ */
+public class RequestStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.record(sql);
+        }
+        return sql;
+    }
+
+    static Counter start(int limit, boolean failOnExceed) {
+        Counter counter = new Counter(limit, failOnExceed);
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 요청 하나의 집계 결과 (같은 SQL 반복 횟수로 N+1 여부를 판단할 수 있도록 SQL별로도 집계)
+     */
+    static final class Counter {
+        private static final int MAX_DISTINCT_STATEMENTS = 50;
+
+        private final int limit;
+        private final boolean failOnExceed;
+        private int total;
+        private final Map<String, Integer> byStatement = new HashMap<>();
+
+        Counter(int limit, boolean failOnExceed) {
+            this.limit = limit;
+            this.failOnExceed = failOnExceed;
+        }
+
+        /**
+         * failOnExceed이면 한도를 넘는 SQL을 실행하기 전에 예외를 던진다.
+         * 응답이 커밋되기 전(핸들러 실행 중)에 실패하므로 요청이 오류 응답으로 끝난다.
+         */
+        void record(String sql) {
+            total++;
+            if (byStatement.size() < MAX_DISTINCT_STATEMENTS || byStatement.containsKey(sql)) {
+                byStatement.merge(sql, 1, Integer::sum);
+            }
+            if (failOnExceed && total > limit) {
+                throw new IllegalStateException(
+                        String.format("요청당 SQL 실행 횟수 초과: statements=%d (max=%d), sql=%s", total, limit, sql));
+            }
+        }
+
+        int total() {
+            return total;
+        }
+
+        /**
+         * 가장 많이 반복된 SQL
+         */
+        Map.Entry<String, Integer> mostRepeated() {
+            return byStatement.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.pullit.common.jpa;
+
+import com.pullit.common.config.properties.SqlMonitorProperties;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 실행 횟수 감시
+ * 설정한 횟수를 넘으면 가장 많이 반복된 SQL과 함께 경고를 남기고,
+ * fail-on-exceed이면 한도를 넘는 SQL 실행 시점에 예외를 던져 응답 커밋 전에 요청이 실패하도록 한다.
+ * 실행 횟수는 요청 속성(STATEMENT_COUNT_ATTRIBUTE)으로도 남겨 MockMvc 테스트에서 검증할 수 있다.
+ * Hibernate Statistics가 켜져 있으면 엔티티/컬렉션 지연 로딩 횟수도 함께 남긴다 (전역 통계 차이이므로 동시 요청이 있으면 근사치).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatementCountFilter.class.getName() + ".count";
+
+    private final SqlMonitorProperties properties;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long fetchesBefore = fetchCount(statistics);
+        RequestStatementCounter.Counter counter = RequestStatementCounter.start(
+                properties.getMaxStatementsPerRequest(), properties.isFailOnExceed());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatementCounter.clear();
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, counter.total());
+        }
+
+        if (counter.total() <= properties.getMaxStatementsPerRequest()) {
+            return;
+        }
+        Map.Entry<String, Integer> repeated = counter.mostRepeated();
+        String message = String.format("요청당 SQL 실행 횟수 초과: %s %s, statements=%d (max=%d), lazyFetches=%s, 최다 반복 %d회: %s",
+                request.getMethod(), request.getRequestURI(), counter.total(), properties.getMaxStatementsPerRequest(),
+                statistics.isStatisticsEnabled() ? fetchCount(statistics) - fetchesBefore : "n/a",
+                repeated != null ? repeated.getValue() : 0, repeated != null ? repeated.getKey() : "");
+        log.warn(message);
+    }
+
+    private static long fetchCount(Statistics statistics) {
+        return statistics.isStatisticsEnabled()
+                ? statistics.getEntityFetchCount() + statistics.getCollectionFetchCount()
+                : 0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.pullit.exam.controller;
+
+import com.pullit.auth.authentication.CustomUserDetails;
+import com.pullit.common.annotation.AuthUser;
+import com.pullit.common.dto.response.ApiResponse;
+import com.pullit.common.dto.response.PageResponse;
+import com.pullit.exam.dto.request.ExamCreateRequest;
+import com.pullit.exam.dto.request.ExamItemOrderRequest;
+import com.pullit.exam.dto.response.ExamSummaryResponse;
+import com.pullit.exam.service.ExamAssemblyService;
+import com.pullit.exam.service.ExamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/exam")
+@RequiredArgsConstructor
+@Tag(name = "Exam", description = "시험지 API")
+@SecurityRequirement(name = "bearerAuth")
+public class ExamController {
+    private final ExamService examService;
+    private final ExamAssemblyService examAssemblyService;
+
+    @GetMapping
+    @Operation(summary = "공개 시험지 목록 조회", description = "전체 공개 시험지, 최근 수정순 키셋 페이지네이션 (nextCursor로 다음 페이지 조회)")
+    public ResponseEntity<ApiResponse<PageResponse<ExamSummaryResponse>>> findExams(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        PageResponse<ExamSummaryResponse> res = examService.findPublicExamPage(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
+    @GetMapping("/accessible")
+    @Operation(summary = "볼 수 있는 시험지 목록 조회", description = "전체 공개 + 내 시험지, 최근 수정순 키셋 페이지네이션")
+    public ResponseEntity<ApiResponse<PageResponse<ExamSummaryResponse>>> findAccessibleExams(
+            @AuthUser(required = false) CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        Long userId = userDetails != null ? userDetails.getUserId() : null;
+        PageResponse<ExamSummaryResponse> res = examService.findAccessibleExamPage(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "시험지 이름 자동완성", description = "이름에 검색어가 포함된 접근 가능한 시험지 이름 (최근 수정순)")
+    public ResponseEntity<ApiResponse<List<String>>> suggestExamNames(
+            @AuthUser(required = false) CustomUserDetails userDetails,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit) {
+        Long userId = userDetails != null ? userDetails.getUserId() : null;
+        List<String> res = examService.suggestExamNames(query, userId, limit);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
+    @PostMapping
+    @Operation(summary = "시험지 생성", description = "시험지와 문항 목록을 한 번에 저장 (요청 순서대로 문항 번호 부여)")
+    public ResponseEntity<ApiResponse<Long>> createExam(@AuthUser CustomUserDetails userDetails,
+                                                       @Valid @RequestBody ExamCreateRequest request) {
+        Long examId = examAssemblyService.createExam(userDetails.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(examId, "시험지가 생성되었습니다"));
+    }
+
+    @PutMapping("/{examId}/items/order")
+    @Operation(summary = "시험지 문항 순서 변경", description = "시험지의 전체 문항 ID를 새 순서대로 전달")
+    public ResponseEntity<ApiResponse<Void>> reorderItems(@AuthUser CustomUserDetails userDetails,
+                                                          @PathVariable Long examId,
+                                                          @Valid @RequestBody ExamItemOrderRequest request) {
+        examAssemblyService.reorderItems(userDetails.getUserId(), examId, request.getItemIds());
+        return ResponseEntity.ok(ApiResponse.successWithoutData("문항 순서가 변경되었습니다"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.pullit.exam.controller;
+
+import com.pullit.auth.authentication.CustomUserDetails;
+import com.pullit.common.annotation.AuthUser;
+import com.pullit.common.config.properties.ExamPdfProperties;
+import com.pullit.common.dto.response.ApiResponse;
+import com.pullit.exam.dto.response.ExamPdfJobResponse;
+import com.pullit.exam.service.ExamPdfService;
+import com.pullit.filehistory.dto.FileHistoryDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+@RestController
+@RequestMapping("/api/exam")
+@RequiredArgsConstructor
+@Tag(name = "Exam PDF", description = "시험지 PDF 생성 API")
+@SecurityRequirement(name = "bearerAuth")
+public class ExamPdfController {
+    private final ExamPdfService examPdfService;
+    private final ExamPdfProperties examPdfProperties;
+
+    @PostMapping("/{examId}/pdf")
+    @Operation(summary = "시험지 PDF 생성 요청", description = "시험지 생성자만 요청 가능. 생성 작업을 대기열에 넣고 작업 ID를 바로 반환 (202)")
+    public ResponseEntity<ApiResponse<ExamPdfJobResponse>> requestPdf(@AuthUser CustomUserDetails userDetails,
+                                                                      @PathVariable Long examId) {
+        ExamPdfJobResponse res = examPdfService.requestPdf(examId, userDetails.getUserId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(res, "PDF 생성을 시작했습니다"));
+    }
+
+    @GetMapping("/pdf-jobs/{jobId}")
+    @Operation(summary = "시험지 PDF 생성 상태 조회",
+            description = "waitSeconds를 주면 완료되거나 시간이 지날 때까지 기다렸다가 응답 (롱폴링)")
+    public DeferredResult<ResponseEntity<ApiResponse<ExamPdfJobResponse>>> findJob(
+            @AuthUser CustomUserDetails userDetails,
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") long waitSeconds) {
+        Duration wait = Duration.ofSeconds(Math.max(waitSeconds, 0));
+        // 서비스 쪽 대기가 먼저 끝나도록 여유를 둠
+        DeferredResult<ResponseEntity<ApiResponse<ExamPdfJobResponse>>> result =
+                new DeferredResult<>(examPdfProperties.getMaxWait().plusSeconds(5).toMillis());
+        examPdfService.awaitJob(jobId, userDetails.getUserId(), wait)
+                .whenComplete((job, ex) -> {
+                    if (ex != null) {
+                        result.setErrorResult(ex instanceof CompletionException && ex.getCause() != null
+                                ? ex.getCause() : ex);
+                    } else {
+                        result.setResult(ResponseEntity.ok(ApiResponse.success(job)));
+                    }
+                });
+        return result;
+    }
+
+    @GetMapping("/{examId}/files")
+    @Operation(summary = "시험지 파일 이력 조회", description = "생성된 PDF 목록 (최신순)")
+    public ResponseEntity<ApiResponse<List<FileHistoryDTO>>> findFileHistories(
+            @AuthUser CustomUserDetails userDetails,
+            @PathVariable Long examId) {
+        List<FileHistoryDTO> res = examPdfService.findFileHistories(examId, userDetails.getUserId());
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
+    @GetMapping("/files/{fileHistoryId}")
+    @Operation(summary = "시험지 PDF 다운로드")
+    public ResponseEntity<Resource> downloadFile(@AuthUser CustomUserDetails userDetails,
+                                                 @PathVariable Long fileHistoryId) {
+        FileHistoryDTO fileHistory = examPdfService.findFileHistory(fileHistoryId, userDetails.getUserId());
+        Resource resource = examPdfService.loadFile(fileHistory);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileHistory.getFileHistoryName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(resource);
+    }
+}
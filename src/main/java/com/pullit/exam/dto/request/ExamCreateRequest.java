@@ -0,0 +1,44 @@
+package com.pullit.exam.dto.request;
+
+import com.pullit.exam.enums.ExamVisibility;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "시험지 생성 요청")
+public class ExamCreateRequest {
+    @NotBlank(message = "시험지 이름은 필수입니다")
+    @Size(max = 500, message = "시험지 이름은 500자 이내여야 합니다")
+    @Schema(description = "시험지 이름", example = "1학기 중간고사")
+    private String examName;
+
+    @NotNull(message = "교과서 ID는 필수입니다")
+    @Schema(description = "교과서 ID", example = "1")
+    private Long subjectId;
+
+    @Schema(description = "대단원 ID")
+    private Long largeChapterId;
+
+    @Schema(description = "대단원명")
+    private String largeChapterName;
+
+    @Schema(description = "공개 범위", example = "SCHOOL")
+    private ExamVisibility visibility;
+
+    @NotEmpty(message = "문항은 1개 이상이어야 합니다")
+    @Size(max = 200, message = "문항은 200개 이하여야 합니다")
+    @Schema(description = "문항 ID 목록 (출제 순서)")
+    private List<Long> itemIds;
+}
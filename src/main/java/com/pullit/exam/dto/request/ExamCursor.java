@@ -0,0 +1,40 @@
+package com.pullit.exam.dto.request;
+
+import com.pullit.common.exception.BusinessException;
+import com.pullit.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 시험지 목록 키셋 페이지네이션 커서 (updated_date, exam_id 내림차순)
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 토큰으로 전달한다.
+ */
+public record ExamCursor(LocalDateTime updatedDate, long examId) {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = ",";
+
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION, updatedDate.toString(), String.valueOf(examId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws BusinessException 형식이 잘못된 커서
+     */
+    public static ExamCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.");
+            }
+            return new ExamCursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.pullit.exam.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "시험지 문항 순서 변경 요청")
+public class ExamItemOrderRequest {
+    @NotEmpty(message = "문항 ID 목록은 필수입니다")
+    @Size(max = 200, message = "문항은 200개 이하여야 합니다")
+    @Schema(description = "변경할 순서대로 나열한 시험지의 전체 문항 ID")
+    private List<Long> itemIds;
+}
@@ -0,0 +1,14 @@
+package com.pullit.exam.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 시험지별 문항 수 (ExamRepository.countItemsByExamIdIn 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class ExamItemCount {
+    private Long examId;
+    private Long itemCount;
+}
@@ -0,0 +1,40 @@
+package com.pullit.exam.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pullit.exam.enums.ExamPdfJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시험지 PDF 생성 작업 상태 (상태가 바뀔 때마다 새 객체로 캐시에 저장)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "시험지 PDF 생성 작업")
+public class ExamPdfJobResponse {
+    private String jobId;
+    private Long examId;
+    private ExamPdfJobStatus status;
+
+    private Long fileHistoryId;
+    private String fileUrl;
+    private String errorMessage;
+
+    private Long requestedBy;
+    private LocalDateTime requestedAt;
+    private LocalDateTime finishedAt;
+
+    @JsonIgnore
+    public boolean isFinished() {
+        return status != null && status.isFinished();
+    }
+}
@@ -0,0 +1,42 @@
+package com.pullit.exam.dto.response;
+
+import com.pullit.exam.enums.ExamVisibility;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시험지 목록 항목
+ * 필드 순서는 ExamRepository.findSummariesByIdIn의 생성자 프로젝션 순서와 같아야 한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "시험지 목록")
+public class ExamSummaryResponse {
+    private Long examId;
+    private String examName;
+
+    private Long subjectId;
+    private String subjectName;
+
+    private Long largeChapterId;
+    private String largeChapterName;
+
+    private Integer itemCount;
+    private ExamVisibility visibility;
+    private String previewUrl;
+
+    private Long createdBy;
+    private LocalDateTime updatedDate;
+
+    /**
+     * exam_items 집계 결과로 문항 수 보정 (exams.item_count는 이전 코드 경로에서 갱신이 누락될 수 있음)
+     */
+    public void updateItemCount(Integer itemCount) {
+        this.itemCount = itemCount;
+    }
+}
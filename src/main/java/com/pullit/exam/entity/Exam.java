@@ -6,12 +6,19 @@ import com.pullit.item.embedded.CodeNamePair;
 import com.pullit.item.entity.Subject;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name="exams")
+@Table(name="exams", indexes = {
+        // V1__add_query_indexes.sql과 같은 이름 유지
+        @Index(name = "idx_exams_visibility_updated", columnList = "visibility, updated_date"),
+        @Index(name = "idx_exams_created_by_updated", columnList = "created_by, updated_date"),
+        @Index(name = "idx_exams_updated", columnList = "updated_date")
+        // ft_exams_exam_name (FULLTEXT ngram)은 어노테이션으로 선언할 수 없어 V2__add_exam_name_fulltext.sql에서만 생성
+})
 @Getter
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -58,6 +65,7 @@ public class Exam extends FullAuditEntity {
     private ExamVisibility visibility = ExamVisibility.SCHOOL;
 
     @OneToMany(mappedBy = "exam", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<ExamItem> examItems = new ArrayList<>();
 
@@ -84,15 +92,18 @@ public class Exam extends FullAuditEntity {
         }
     }
 
-    public boolean isAccessibleBy(String userId, Long schoolId) {
+    /**
+     * 목록 조회는 같은 규칙을 SQL 조건으로 적용하는 ExamPredicates.accessibleBy 사용
+     */
+    public boolean isAccessibleBy(Long userId, Long schoolId) {
         // PUBLIC: 모든 사용자 접근 가능
         if (visibility == ExamVisibility.PUBLIC) {
             return true;
         }
 
         // PRIVATE: 생성자만 접근 가능
-        if (visibility == ExamVisibility.PRIVATE) {
-            return isOwnedBy(userId);
+        if (isOwnedBy(userId)) {
+            return true;
         }
 
         //TODO : SCHOOL: 같은 학교 사용자 접근 가능 (추후 구현)
@@ -121,7 +132,11 @@ public class Exam extends FullAuditEntity {
     public String getChapterDisplayName() {
         return largeChapter != null ? largeChapter.getDisplayName() : "";
     }
-    public boolean isOwnedBy(String userId) {
+    public void assignOwner(Long userId) {
+        assignCreatedBy(userId);
+    }
+
+    public boolean isOwnedBy(Long userId) {
         return getCreatedBy() != null && getCreatedBy().equals(userId);
     }
 
@@ -7,7 +7,10 @@ import lombok.*;
 import java.io.Serializable;
 
 @Entity
-@Table(name="exam_items")
+@Table(name="exam_items", indexes = {
+        // V1__add_query_indexes.sql과 같은 이름 유지
+        @Index(name = "idx_exam_items_exam_item_no", columnList = "exam_id, item_no")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
@@ -0,0 +1,19 @@
+package com.pullit.exam.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExamPdfJobStatus {
+    PENDING("대기"),
+    RUNNING("생성 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String title;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,9 @@
+package com.pullit.exam.pdf;
+
+import com.pullit.item.dto.response.ItemContentResponse;
+
+/**
+ * PDF에 출력할 문항 (exam_items.item_no 그대로 번호를 매김)
+ */
+public record ExamPdfItem(int itemNo, ItemContentResponse content) {
+}
@@ -0,0 +1,124 @@
+package com.pullit.exam.pdf;
+
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.pullit.common.config.properties.ExamPdfProperties;
+import com.pullit.item.dto.response.ItemContentResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.helper.W3CDom;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시험지 HTML 조립 및 PDF 변환 (openhtmltopdf)
+ * 문항 HTML은 XHTML이 아닐 수 있으므로 jsoup으로 파싱해 W3C DOM으로 넘긴다.
+ * openhtmltopdf 기본 글꼴에는 한글이 없으므로 설정한 글꼴 또는 시스템 한글 글꼴(TTF)을 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExamPdfRenderer {
+
+    private static final String FONT_FAMILY = "exam-font";
+    private static final String[] CHOICE_MARKS = {"①", "②", "③", "④", "⑤"};
+    private static final String STYLE = """
+            @page { size: A4; margin: 15mm; }
+            body { font-family: '%s', sans-serif; font-size: 10pt; line-height: 1.5; }
+            h1 { font-size: 16pt; text-align: center; margin-bottom: 8mm; }
+            .item { page-break-inside: avoid; margin-bottom: 6mm; }
+            .item-no { font-weight: bold; }
+            .passage { border: 1px solid #999; padding: 2mm; margin: 2mm 0; }
+            .choice { margin-left: 4mm; }
+            img { max-width: 100%%; }
+            """.formatted(FONT_FAMILY);
+
+    private final ExamPdfProperties properties;
+    private final ResourceLoader resourceLoader;
+
+    // 렌더링마다 다시 읽지 않도록 기동 시 한 번 읽어 둠 (찾지 못하면 null)
+    private byte[] font;
+
+    /**
+     * font-location, fallback-font-locations 순으로 처음 찾은 글꼴을 사용한다.
+     * 하나도 없으면 PDF 생성은 계속하되 한글이 출력되지 않으므로 경고를 남긴다.
+     */
+    @PostConstruct
+    void loadFont() throws IOException {
+        List<String> locations = new ArrayList<>();
+        locations.add(properties.getFontLocation());
+        locations.addAll(properties.getFallbackFontLocations());
+        for (String location : locations) {
+            Resource resource = resourceLoader.getResource(location);
+            if (!resource.exists()) {
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                font = in.readAllBytes();
+            }
+            log.info("시험지 PDF 한글 글꼴: {}", location);
+            return;
+        }
+        log.warn("시험지 PDF 한글 글꼴을 찾을 수 없어 기본 글꼴로 생성합니다 (한글 미출력): {}", locations);
+    }
+
+    /**
+     * @param items 출제 순서대로 정렬된 문항 (ItemContentView.QUESTION 범위)
+     */
+    public byte[] render(String examName, List<ExamPdfItem> items) throws IOException {
+        String html = buildHtml(examName, items);
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PdfRendererBuilder builder = new PdfRendererBuilder();
+            builder.useFastMode();
+            if (font != null) {
+                builder.useFont(() -> new ByteArrayInputStream(font), FONT_FAMILY);
+            }
+            builder.withW3cDocument(new W3CDom().fromJsoup(Jsoup.parse(html)), null);
+            builder.toStream(out);
+            builder.run();
+            return out.toByteArray();
+        }
+    }
+
+    private String buildHtml(String examName, List<ExamPdfItem> items) {
+        StringBuilder html = new StringBuilder(items.size() * 2048)
+                .append("<html><head><meta charset=\"UTF-8\"/><style>").append(STYLE).append("</style></head><body>")
+                .append("<h1>").append(HtmlUtils.htmlEscape(examName)).append("</h1>");
+
+        for (ExamPdfItem examItem : items) {
+            ItemContentResponse item = examItem.content();
+            html.append("<div class=\"item\">");
+            if (StringUtils.hasText(item.getPassageHtml())) {
+                html.append("<div class=\"passage\">").append(item.getPassageHtml()).append("</div>");
+            }
+            html.append("<div class=\"question\"><span class=\"item-no\">").append(examItem.itemNo()).append(". </span>")
+                    .append(nullToEmpty(item.getQuestionHtml())).append("</div>");
+
+            String[] choices = {item.getChoice1Html(), item.getChoice2Html(), item.getChoice3Html(),
+                    item.getChoice4Html(), item.getChoice5Html()};
+            for (int i = 0; i < choices.length; i++) {
+                if (StringUtils.hasText(choices[i])) {
+                    html.append("<div class=\"choice\">").append(CHOICE_MARKS[i]).append(' ')
+                            .append(choices[i]).append("</div>");
+                }
+            }
+            html.append("</div>");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,19 @@
+package com.pullit.exam.pdf;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+
+/**
+ * 생성된 시험지 PDF 저장소
+ * FileHistory.originPdfUrl에는 구현체가 돌려준 저장 키를 기록하고, 다운로드 시 같은 키로 읽는다.
+ */
+public interface ExamPdfStorage {
+
+    /**
+     * @return 저장 키
+     */
+    String save(Long examId, byte[] pdf) throws IOException;
+
+    Resource load(String key);
+}
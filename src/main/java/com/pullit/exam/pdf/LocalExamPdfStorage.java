@@ -0,0 +1,65 @@
+package com.pullit.exam.pdf;
+
+import com.pullit.common.config.properties.ExamPdfProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * 생성된 시험지 PDF 저장소 (로컬 디스크)
+ * FileHistory.originPdfUrl에는 저장 디렉터리 기준 상대 경로(키)를 기록한다.
+ * 파일은 저장한 노드의 디스크에만 있으므로 단일 노드 배포를 전제로 한다.
+ * 여러 노드로 운영할 때는 exam-pdf.storage-dir을 모든 노드가 함께 쓰는 공유 볼륨으로 지정하거나
+ * 공유 저장소를 쓰는 ExamPdfStorage 구현으로 교체해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalExamPdfStorage implements ExamPdfStorage {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ExamPdfProperties properties;
+
+    /**
+     * @return 저장 키 ({examId}/{시각}-{난수}.pdf)
+     */
+    @Override
+    public String save(Long examId, byte[] pdf) throws IOException {
+        String key = examId + "/" + LocalDateTime.now().format(FILE_TIMESTAMP) + "-"
+                + UUID.randomUUID().toString().substring(0, 8) + ".pdf";
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        // 임시 파일에 쓴 뒤 이동해서 쓰는 중인 파일이 내려가지 않도록 함
+        Path temp = Files.createTempFile(path.getParent(), "render-", ".tmp");
+        try {
+            Files.write(temp, pdf, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.move(temp, path);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return key;
+    }
+
+    @Override
+    public Resource load(String key) {
+        return new FileSystemResource(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path root = Path.of(properties.getStorageDir()).toAbsolutePath().normalize();
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 키입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,98 @@
+package com.pullit.exam.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시험지 문항 일괄 저장/순서 변경 (JDBC)
+ * ExamItem은 복합키 + IDENTITY 부모라 Hibernate 배치가 걸리지 않으므로 JDBC 배치로 처리한다.
+ * JPA를 거치지 않으므로 같은 트랜잭션에서 이미 로딩한 Exam.examItems에는 반영되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExamItemJdbcRepository {
+
+    private static final String INSERT_EXAM_ITEM =
+            "INSERT INTO exam_items (exam_id, item_id, item_no) VALUES (?, ?, ?)";
+
+    private static final String SELECT_ITEM_NOS =
+            "SELECT item_id, item_no FROM exam_items WHERE exam_id = ? ORDER BY item_no";
+
+    private static final String COUNT_EXAM_ITEMS =
+            "SELECT COUNT(*) FROM exam_items WHERE exam_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 문항 목록 순서대로 item_no(1부터)를 매겨 한 번의 배치로 저장
+     * (rewriteBatchedStatements=true면 다중 VALUES INSERT 한 번으로 전송)
+     */
+    public void batchInsert(Long examId, List<Long> itemIds) {
+        jdbcTemplate.batchUpdate(INSERT_EXAM_ITEM, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, examId);
+                ps.setLong(2, itemIds.get(i));
+                ps.setInt(3, i + 1);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return itemIds.size();
+            }
+        });
+    }
+
+    /**
+     * 문항 순서 변경을 UPDATE 한 번으로 처리
+     * UPDATE exam_items SET item_no = CASE item_id WHEN ? THEN ? ... END WHERE exam_id = ? AND item_id IN (...)
+     * @return 변경된 행 수
+     */
+    public int reorder(Long examId, List<Long> itemIdsInOrder) {
+        if (itemIdsInOrder.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("UPDATE exam_items SET item_no = CASE item_id");
+        List<Object> args = new ArrayList<>(itemIdsInOrder.size() * 3 + 1);
+        for (int i = 0; i < itemIdsInOrder.size(); i++) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(itemIdsInOrder.get(i));
+            args.add(i + 1);
+        }
+        sql.append(" END WHERE exam_id = ? AND item_id IN (")
+                .append(String.join(", ", Collections.nCopies(itemIdsInOrder.size(), "?")))
+                .append(')');
+        args.add(examId);
+        args.addAll(itemIdsInOrder);
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * 출제 순서(item_no)대로 문항 ID와 문항 번호 조회 (idx_exam_items_exam_item_no)
+     * @return 문항 ID → item_no (출제 순서 유지)
+     */
+    public Map<Long, Integer> findItemNos(Long examId) {
+        Map<Long, Integer> itemNos = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_ITEM_NOS,
+                rs -> {
+                    itemNos.put(rs.getLong("item_id"), rs.getInt("item_no"));
+                },
+                examId);
+        return itemNos;
+    }
+
+    public int countByExamId(Long examId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_EXAM_ITEMS, Integer.class, examId);
+        return count != null ? count : 0;
+    }
+}
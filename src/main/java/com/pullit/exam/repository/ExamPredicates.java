@@ -0,0 +1,47 @@
+package com.pullit.exam.repository;
+
+import com.pullit.exam.dto.request.ExamCursor;
+import com.pullit.exam.enums.ExamVisibility;
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+import static com.pullit.exam.entity.QExam.exam;
+
+/**
+ * 시험지 조회 조건 (QueryDSL)
+ * 접근 규칙은 Exam.isAccessibleBy와 같다.
+ */
+public final class ExamPredicates {
+
+    private ExamPredicates() {
+    }
+
+    /**
+     * 사용자가 볼 수 있는 시험지: 전체 공개이거나 본인이 만든 시험지
+     * 학교 공개(SCHOOL)는 사용자/시험지에 학교 정보가 없어 본인 외에는 허용하지 않는다 (학교 조건 미구현).
+     * @param userId null이면 전체 공개만
+     */
+    public static BooleanExpression accessibleBy(Long userId) {
+        BooleanExpression isPublic = isPublic();
+        return userId != null ? isPublic.or(ownedBy(userId)) : isPublic;
+    }
+
+    public static BooleanExpression isPublic() {
+        return exam.visibility.eq(ExamVisibility.PUBLIC);
+    }
+
+    public static BooleanExpression ownedBy(Long userId) {
+        return exam.createdBy.eq(userId);
+    }
+
+    /**
+     * (updated_date, exam_id) 내림차순 키셋 조건
+     * @param cursor null이면 첫 페이지 (조건 없음)
+     */
+    public static BooleanExpression after(ExamCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return exam.updatedDate.lt(cursor.updatedDate())
+                .or(exam.updatedDate.eq(cursor.updatedDate()).and(exam.id.lt(cursor.examId())));
+    }
+}
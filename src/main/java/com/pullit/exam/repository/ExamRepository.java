@@ -1,20 +1,29 @@
 package com.pullit.exam.repository;
 
+import com.pullit.exam.dto.response.ExamItemCount;
+import com.pullit.exam.dto.response.ExamSummaryResponse;
 import com.pullit.exam.entity.Exam;
 import com.pullit.exam.enums.ExamVisibility;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ExamRepository extends JpaRepository<Exam, Long>, JpaSpecificationExecutor<Exam> {
+public interface ExamRepository extends JpaRepository<Exam, Long>, JpaSpecificationExecutor<Exam>, ExamRepositoryCustom {
 
     @Query("SELECT DISTINCT e from Exam e " +
             "LEFT JOIN FETCH e.subject s " +
@@ -28,8 +37,82 @@ public interface ExamRepository extends JpaRepository<Exam, Long>, JpaSpecificat
             "WHERE e.visibility = :visibility")
     Page<Exam> findAllByVisibility(@Param("visibility") ExamVisibility visibility, Pageable pageable);
 
-    @Query("SELECT DISTINCT e.examName From Exam e " +
+    /**
+     * 시험지 목록 1단계: 키셋 페이지의 ID만 조회 (idx_exams_visibility_updated 인덱스 범위 스캔)
+     * 첫 페이지
+     */
+    @Query("SELECT e.id FROM Exam e " +
+            "WHERE e.visibility = :visibility " +
+            "ORDER BY e.updatedDate DESC, e.id DESC")
+    List<Long> findPageIdsByVisibility(@Param("visibility") ExamVisibility visibility, Pageable limit);
+
+    /**
+     * 시험지 목록 1단계: 커서 이후 페이지
+     */
+    @Query("SELECT e.id FROM Exam e " +
+            "WHERE e.visibility = :visibility " +
+            "AND (e.updatedDate < :updatedDate OR (e.updatedDate = :updatedDate AND e.id < :examId)) " +
+            "ORDER BY e.updatedDate DESC, e.id DESC")
+    List<Long> findPageIdsByVisibilityAfter(@Param("visibility") ExamVisibility visibility,
+                                            @Param("updatedDate") LocalDateTime updatedDate,
+                                            @Param("examId") Long examId,
+                                            Pageable limit);
+
+    /**
+     * 시험지 목록 2단계: 페이지 ID의 목록 항목 조회 (교과서는 to-one 조인, 컬렉션은 로딩하지 않음)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.pullit.exam.dto.response.ExamSummaryResponse(" +
+            "e.id, e.examName, s.subjectId, s.subjectName, " +
+            "e.largeChapter.code, e.largeChapter.name, " +
+            "e.itemCount, e.visibility, e.previewUrl, e.createdBy, e.updatedDate) " +
+            "FROM Exam e LEFT JOIN e.subject s " +
+            "WHERE e.id IN :ids")
+    List<ExamSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 시험지별 문항 수 (idx_exam_items_exam_item_no 인덱스만으로 처리)
+     */
+    @Query("SELECT new com.pullit.exam.dto.response.ExamItemCount(ei.exam.id, COUNT(ei)) FROM ExamItem ei " +
+            "WHERE ei.exam.id IN :ids " +
+            "GROUP BY ei.exam.id")
+    List<ExamItemCount> countItemsByExamIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 시험지 이름 부분 일치 검색 (전체 스캔)
+     * FULLTEXT 인덱스(ft_exams_exam_name)가 없는 DB에서만 사용
+     * 접근 조건은 ExamPredicates.accessibleBy와 같음 (userId가 null이면 전체 공개만)
+     */
+    @Query("SELECT e.examName FROM Exam e " +
             "WHERE LOWER(e.examName) LIKE LOWER(CONCAT('%',:query,'%')) " +
-            "ORDER BY e.updatedDate DESC ")
-    List<String> findExamNamesByQuery(@Param("query") String query, Pageable pageable);
+            "AND (e.visibility = com.pullit.exam.enums.ExamVisibility.PUBLIC OR e.createdBy = :userId) " +
+            "GROUP BY e.examName " +
+            "ORDER BY MAX(e.updatedDate) DESC")
+    List<String> findExamNamesByQuery(@Param("query") String query, @Param("userId") Long userId,
+                                      Pageable pageable);
+
+    /**
+     * 시험지 이름 자동완성 (ft_exams_exam_name ngram FULLTEXT 인덱스, 최근 수정순)
+     * 접근 조건은 ExamPredicates.accessibleBy와 같음 (userId가 null이면 created_by = NULL이 거짓이므로 전체 공개만)
+     * @param booleanQuery BOOLEAN MODE 검색식 (ExamServiceImpl.toBooleanQuery)
+     */
+    @Query(value = "SELECT e.exam_name FROM exams e " +
+            "WHERE MATCH(e.exam_name) AGAINST(:query IN BOOLEAN MODE) " +
+            "AND (e.visibility = 'PUBLIC' OR e.created_by = :userId) " +
+            "GROUP BY e.exam_name " +
+            "ORDER BY MAX(e.updated_date) DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<String> findExamNamesByFulltext(@Param("query") String booleanQuery, @Param("userId") Long userId,
+                                         @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Exam e SET e.fileUrl = :fileUrl WHERE e.id = :id")
+    int updateFileUrl(@Param("id") Long id, @Param("fileUrl") String fileUrl);
+
+    @Query(value = "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'exams' AND index_name = 'ft_exams_exam_name'",
+            nativeQuery = true)
+    long countExamNameFulltextIndex();
 }
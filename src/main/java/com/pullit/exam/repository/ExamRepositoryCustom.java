@@ -0,0 +1,15 @@
+package com.pullit.exam.repository;
+
+import com.pullit.exam.dto.request.ExamCursor;
+
+import java.util.List;
+
+public interface ExamRepositoryCustom {
+
+    /**
+     * 사용자가 볼 수 있는 시험지의 키셋 페이지 키 조회 ((updated_date, exam_id) 내림차순)
+     * @param after 직전 페이지의 마지막 행, null이면 첫 페이지
+     * @param limit 조회할 최대 행 수
+     */
+    List<ExamCursor> findAccessibleKeys(Long userId, ExamCursor after, int limit);
+}
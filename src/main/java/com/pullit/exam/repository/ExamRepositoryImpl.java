@@ -0,0 +1,57 @@
+package com.pullit.exam.repository;
+
+import com.pullit.exam.dto.request.ExamCursor;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.pullit.exam.entity.QExam.exam;
+
+@RequiredArgsConstructor
+public class ExamRepositoryImpl implements ExamRepositoryCustom {
+
+    private static final Comparator<ExamCursor> NEWEST_FIRST = Comparator
+            .comparing(ExamCursor::updatedDate, Comparator.reverseOrder())
+            .thenComparing(ExamCursor::examId, Comparator.reverseOrder());
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 접근 조건의 OR(공개 OR 본인)를 그대로 쓰면 한 인덱스로 정렬할 수 없어 filesort가 생기므로,
+     * 전체 공개(idx_exams_visibility_updated)와 본인 시험지(idx_exams_created_by_updated)를
+     * 각각 인덱스 순서로 limit건씩 읽은 뒤 병합한다. 읽는 행 수는 최대 limit * 2다.
+     */
+    @Override
+    public List<ExamCursor> findAccessibleKeys(Long userId, ExamCursor after, int limit) {
+        List<ExamCursor> publicKeys = fetchKeys(ExamPredicates.isPublic(), after, limit);
+        if (userId == null) {
+            return publicKeys;
+        }
+        List<ExamCursor> ownedKeys = fetchKeys(ExamPredicates.ownedBy(userId), after, limit);
+
+        // 본인의 공개 시험지는 양쪽에 모두 나오므로 ID로 중복 제거
+        Map<Long, ExamCursor> merged = new LinkedHashMap<>();
+        publicKeys.forEach(key -> merged.put(key.examId(), key));
+        ownedKeys.forEach(key -> merged.putIfAbsent(key.examId(), key));
+        return merged.values().stream()
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    private List<ExamCursor> fetchKeys(BooleanExpression access, ExamCursor after, int limit) {
+        return queryFactory
+                .select(Projections.constructor(ExamCursor.class, exam.updatedDate, exam.id))
+                .from(exam)
+                .where(access, ExamPredicates.after(after))
+                .orderBy(exam.updatedDate.desc(), exam.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -0,0 +1,10 @@
+package com.pullit.exam.service;
+
+import com.pullit.exam.dto.request.ExamCreateRequest;
+
+import java.util.List;
+
+public interface ExamAssemblyService {
+    Long createExam(Long userId, ExamCreateRequest request);
+    void reorderItems(Long userId, Long examId, List<Long> itemIds);
+}
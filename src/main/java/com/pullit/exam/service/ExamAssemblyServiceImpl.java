@@ -0,0 +1,116 @@
+package com.pullit.exam.service;
+
+import com.pullit.common.exception.BusinessException;
+import com.pullit.common.exception.ErrorCode;
+import com.pullit.exam.dto.request.ExamCreateRequest;
+import com.pullit.exam.entity.Exam;
+import com.pullit.exam.enums.ExamVisibility;
+import com.pullit.exam.repository.ExamItemJdbcRepository;
+import com.pullit.exam.repository.ExamRepository;
+import com.pullit.item.dao.ItemMetadataRepository;
+import com.pullit.item.dao.SubjectRepository;
+import com.pullit.item.embedded.CodeNamePair;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 시험지 조립 (시험지 + 문항 목록을 한 번에 저장)
+ * 시험지는 JPA로 INSERT 1회, 문항은 JDBC 배치 INSERT 1회로 저장하고
+ * 순서 변경은 CASE 식 UPDATE 1회로 처리한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional
+public class ExamAssemblyServiceImpl implements ExamAssemblyService {
+    private static final int MAX_EXAM_ITEMS = 200;
+
+    private final ExamRepository examRepository;
+    private final ExamItemJdbcRepository examItemJdbcRepository;
+    private final SubjectRepository subjectRepository;
+    private final ItemMetadataRepository itemMetadataRepository;
+
+    @Override
+    public Long createExam(Long userId, ExamCreateRequest request) {
+        List<Long> itemIds = distinctItemIds(request.getItemIds());
+        if (!subjectRepository.existsById(request.getSubjectId())) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "교과서를 찾을 수 없습니다: " + request.getSubjectId());
+        }
+        validateItemsExist(itemIds);
+
+        ExamVisibility visibility = request.getVisibility() != null ? request.getVisibility() : ExamVisibility.SCHOOL;
+        Exam exam = Exam.builder()
+                .examName(request.getExamName())
+                .subject(subjectRepository.getReferenceById(request.getSubjectId()))
+                .largeChapter(request.getLargeChapterId() != null
+                        ? new CodeNamePair(request.getLargeChapterId(), request.getLargeChapterName())
+                        : null)
+                .itemCount(itemIds.size())
+                .isPublic(visibility.isPublic())
+                .visibility(visibility)
+                .build();
+        exam.assignOwner(userId);
+        Long examId = examRepository.save(exam).getId();
+
+        examItemJdbcRepository.batchInsert(examId, itemIds);
+        log.info("시험지 생성: examId={}, userId={}, items={}", examId, userId, itemIds.size());
+        return examId;
+    }
+
+    /**
+     * 시험지 문항 순서 변경 (시험지의 전체 문항 ID를 새 순서대로 받아야 함)
+     * 시험지 생성자만 변경할 수 있다.
+     */
+    @Override
+    public void reorderItems(Long userId, Long examId, List<Long> itemIds) {
+        Exam exam = examRepository.findById(examId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.EXAM_NOT_FOUND));
+        if (!exam.isOwnedBy(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "시험지 생성자만 문항 순서를 변경할 수 있습니다.");
+        }
+        List<Long> ordered = distinctItemIds(itemIds);
+        if (ordered.size() != itemIds.size()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "중복된 문항 ID가 있습니다.");
+        }
+        if (ordered.size() != examItemJdbcRepository.countByExamId(examId)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "시험지의 전체 문항을 순서대로 보내야 합니다.");
+        }
+
+        // 시험지에 없는 문항이 섞여 있으면 변경 행 수가 모자라므로 롤백
+        int updated = examItemJdbcRepository.reorder(examId, ordered);
+        if (updated != ordered.size()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "시험지에 없는 문항이 포함되어 있습니다.");
+        }
+    }
+
+    private List<Long> distinctItemIds(List<Long> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "문항은 1개 이상이어야 합니다.");
+        }
+        List<Long> ids = new ArrayList<>(itemIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+        if (ids.size() > MAX_EXAM_ITEMS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "시험지 문항은 " + MAX_EXAM_ITEMS + "개까지입니다.");
+        }
+        return ids;
+    }
+
+    private void validateItemsExist(List<Long> itemIds) {
+        Set<Long> missing = new HashSet<>(itemIds);
+        itemMetadataRepository.findExistingItemIds(itemIds).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new BusinessException(ErrorCode.ITEM_NOT_FOUND, "존재하지 않는 문항: " + missing);
+        }
+    }
+}
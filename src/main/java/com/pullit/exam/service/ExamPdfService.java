@@ -0,0 +1,18 @@
+package com.pullit.exam.service;
+
+import com.pullit.exam.dto.response.ExamPdfJobResponse;
+import com.pullit.filehistory.dto.FileHistoryDTO;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface ExamPdfService {
+    ExamPdfJobResponse requestPdf(Long examId, Long userId);
+    ExamPdfJobResponse findJob(String jobId, Long userId);
+    CompletableFuture<ExamPdfJobResponse> awaitJob(String jobId, Long userId, Duration wait);
+    List<FileHistoryDTO> findFileHistories(Long examId, Long userId);
+    FileHistoryDTO findFileHistory(Long fileHistoryId, Long userId);
+    Resource loadFile(FileHistoryDTO fileHistory);
+}
@@ -0,0 +1,284 @@
+package com.pullit.exam.service;
+
+import com.pullit.common.cache.service.CacheService;
+import com.pullit.common.config.properties.ExamPdfProperties;
+import com.pullit.common.exception.BusinessException;
+import com.pullit.common.exception.ErrorCode;
+import com.pullit.exam.dto.response.ExamPdfJobResponse;
+import com.pullit.exam.entity.Exam;
+import com.pullit.exam.enums.ExamPdfJobStatus;
+import com.pullit.exam.pdf.ExamPdfItem;
+import com.pullit.exam.pdf.ExamPdfRenderer;
+import com.pullit.exam.pdf.ExamPdfStorage;
+import com.pullit.exam.repository.ExamItemJdbcRepository;
+import com.pullit.exam.repository.ExamRepository;
+import com.pullit.filehistory.dto.FileHistoryDTO;
+import com.pullit.filehistory.entity.FileHistory;
+import com.pullit.filehistory.repository.FileHistoryRepository;
+import com.pullit.item.dao.ItemMetadataRepository;
+import com.pullit.item.dto.response.ItemContentResponse;
+import com.pullit.item.enums.ItemContentView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.pullit.common.constants.CacheConstants.KEY_PREFIX_EXAM_PDF_JOB;
+
+/**
+ * 시험지 PDF 비동기 생성
+ * 요청 스레드는 작업을 대기열에 넣고 바로 반환하며, 렌더링은 고정 크기 작업자 풀에서 처리한다.
+ * 작업 상태는 캐시(Redis)에 저장하고, 작업을 실행 중인 노드에서는 완료 시점까지 롱폴링으로 기다릴 수 있다.
+ * 생성된 파일은 ExamPdfStorage에 저장되며, 기본 구현(LocalExamPdfStorage)은 단일 노드 배포를 전제로 한다.
+ */
+@Slf4j
+@Service
+public class ExamPdfServiceImpl implements ExamPdfService {
+
+    private static final String FILE_URL_PREFIX = "/api/exam/files/";
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 200;
+
+    private final ExamRepository examRepository;
+    private final ExamItemJdbcRepository examItemJdbcRepository;
+    private final ItemMetadataRepository itemMetadataRepository;
+    private final FileHistoryRepository fileHistoryRepository;
+    private final ExamPdfRenderer examPdfRenderer;
+    private final ExamPdfStorage examPdfStorage;
+    private final CacheService cacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExamPdfProperties properties;
+
+    private final ThreadPoolExecutor renderExecutor;
+    // 이 노드에서 실행 중인 작업 (롱폴링 대기용)
+    private final ConcurrentMap<String, CompletableFuture<ExamPdfJobResponse>> runningJobs = new ConcurrentHashMap<>();
+
+    public ExamPdfServiceImpl(ExamRepository examRepository,
+                              ExamItemJdbcRepository examItemJdbcRepository,
+                              ItemMetadataRepository itemMetadataRepository,
+                              FileHistoryRepository fileHistoryRepository,
+                              ExamPdfRenderer examPdfRenderer,
+                              ExamPdfStorage examPdfStorage,
+                              CacheService cacheService,
+                              PlatformTransactionManager transactionManager,
+                              ExamPdfProperties properties) {
+        this.examRepository = examRepository;
+        this.examItemJdbcRepository = examItemJdbcRepository;
+        this.itemMetadataRepository = itemMetadataRepository;
+        this.fileHistoryRepository = fileHistoryRepository;
+        this.examPdfRenderer = examPdfRenderer;
+        this.examPdfStorage = examPdfStorage;
+        this.cacheService = cacheService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.renderExecutor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "exam-pdf-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 생성 결과가 파일 이력과 시험지 fileUrl에 기록되므로 시험지 생성자만 요청할 수 있다.
+     */
+    @Override
+    public ExamPdfJobResponse requestPdf(Long examId, Long userId) {
+        Exam exam = examRepository.findById(examId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.EXAM_NOT_FOUND));
+        if (!exam.isOwnedBy(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED, "시험지 생성자만 PDF를 생성할 수 있습니다.");
+        }
+        ExamPdfJobResponse job = ExamPdfJobResponse.builder()
+                .jobId(UUID.randomUUID().toString())
+                .examId(examId)
+                .status(ExamPdfJobStatus.PENDING)
+                .requestedBy(userId)
+                .requestedAt(LocalDateTime.now())
+                .build();
+        saveJob(job);
+
+        CompletableFuture<ExamPdfJobResponse> future = new CompletableFuture<>();
+        runningJobs.put(job.getJobId(), future);
+        try {
+            renderExecutor.execute(() -> render(job, exam.getExamName(), userId));
+        } catch (RejectedExecutionException e) {
+            runningJobs.remove(job.getJobId());
+            cacheService.evict(KEY_PREFIX_EXAM_PDF_JOB + job.getJobId());
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "PDF 생성 대기열이 가득 찼습니다.");
+        }
+        log.info("시험지 PDF 생성 요청: jobId={}, examId={}, queued={}",
+                job.getJobId(), examId, renderExecutor.getQueue().size());
+        return job;
+    }
+
+    @Override
+    public ExamPdfJobResponse findJob(String jobId, Long userId) {
+        ExamPdfJobResponse job = cacheService.get(KEY_PREFIX_EXAM_PDF_JOB + jobId, ExamPdfJobResponse.class);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.EXAM_PDF_JOB_NOT_FOUND);
+        }
+        if (!Objects.equals(job.getRequestedBy(), userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return job;
+    }
+
+    /**
+     * 작업이 끝나거나 wait가 지날 때까지 기다린 뒤 상태 반환 (요청 스레드를 점유하지 않음)
+     * 다른 노드에서 실행 중인 작업은 기다리지 않고 현재 상태를 반환한다.
+     */
+    @Override
+    public CompletableFuture<ExamPdfJobResponse> awaitJob(String jobId, Long userId, Duration wait) {
+        ExamPdfJobResponse current = findJob(jobId, userId);
+        CompletableFuture<ExamPdfJobResponse> running = runningJobs.get(jobId);
+        if (current.isFinished() || running == null || wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(current);
+        }
+        long waitMillis = Math.min(wait.toMillis(), properties.getMaxWait().toMillis());
+        return running.copy()
+                .completeOnTimeout(null, waitMillis, TimeUnit.MILLISECONDS)
+                .thenApply(done -> done != null ? done : findJob(jobId, userId));
+    }
+
+    @Override
+    public List<FileHistoryDTO> findFileHistories(Long examId, Long userId) {
+        findAccessibleExam(examId, userId);
+        return fileHistoryRepository.findByExamIdOrderByCreatedDateDesc(examId).stream()
+                .map(FileHistoryDTO::from)
+                .toList();
+    }
+
+    @Override
+    public FileHistoryDTO findFileHistory(Long fileHistoryId, Long userId) {
+        FileHistory fileHistory = fileHistoryRepository.findById(fileHistoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND));
+        findAccessibleExam(fileHistory.getExamId(), userId);
+        return FileHistoryDTO.from(fileHistory);
+    }
+
+    @Override
+    public Resource loadFile(FileHistoryDTO fileHistory) {
+        Resource resource = examPdfStorage.load(fileHistory.getOriginPdfUrl());
+        if (!resource.exists()) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+        }
+        return resource;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    private void render(ExamPdfJobResponse job, String examName, Long userId) {
+        ExamPdfJobResponse result;
+        Error fatal = null;
+        try {
+            saveJob(job.toBuilder().status(ExamPdfJobStatus.RUNNING).build());
+
+            Map<Long, Integer> itemNos = examItemJdbcRepository.findItemNos(job.getExamId());
+            Map<Long, ItemContentResponse> contents = itemMetadataRepository
+                    .findContents(itemNos.keySet(), ItemContentView.QUESTION).stream()
+                    .collect(Collectors.toMap(ItemContentResponse::getItemId, Function.identity()));
+            // 본문(item_html_data)이 없는 문항을 빼고 만들면 문제가 빠지고 번호도 어긋나므로 작업을 실패 처리
+            List<Long> missing = itemNos.keySet().stream()
+                    .filter(itemId -> !contents.containsKey(itemId))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("본문이 없는 문항이 있어 PDF를 만들 수 없습니다: " + missing);
+            }
+            List<ExamPdfItem> items = itemNos.entrySet().stream()
+                    .map(entry -> new ExamPdfItem(entry.getValue(), contents.get(entry.getKey())))
+                    .toList();
+
+            long startedAt = System.nanoTime();
+            byte[] pdf = examPdfRenderer.render(examName, items);
+            String key = examPdfStorage.save(job.getExamId(), pdf);
+
+            FileHistory fileHistory = transactionTemplate.execute(status -> {
+                FileHistory saved = fileHistoryRepository.save(FileHistory.builder()
+                        .examId(job.getExamId())
+                        .fileHistoryName(examName + ".pdf")
+                        .originPdfUrl(key)
+                        .createdBy(userId != null ? userId.toString() : null)
+                        .createdDate(Timestamp.valueOf(LocalDateTime.now()))
+                        .build());
+                examRepository.updateFileUrl(job.getExamId(), FILE_URL_PREFIX + saved.getId());
+                return saved;
+            });
+
+            result = job.toBuilder()
+                    .status(ExamPdfJobStatus.COMPLETED)
+                    .fileHistoryId(fileHistory.getId())
+                    .fileUrl(FILE_URL_PREFIX + fileHistory.getId())
+                    .finishedAt(LocalDateTime.now())
+                    .build();
+            log.info("시험지 PDF 생성 완료: jobId={}, examId={}, items={}, bytes={}, {}ms",
+                    job.getJobId(), job.getExamId(), items.size(), pdf.length,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (Throwable t) {
+            // Error도 잡아서 작업 상태와 롱폴링 대기가 남지 않도록 함 (정리 후 다시 던짐)
+            log.error("시험지 PDF 생성 실패: jobId={}, examId={}", job.getJobId(), job.getExamId(), t);
+            fatal = t instanceof Error error ? error : null;
+            result = job.toBuilder()
+                    .status(ExamPdfJobStatus.FAILED)
+                    .errorMessage(truncate(t.getMessage()))
+                    .finishedAt(LocalDateTime.now())
+                    .build();
+        }
+
+        try {
+            saveJob(result);
+        } catch (RuntimeException e) {
+            log.warn("시험지 PDF 작업 상태 저장 실패: jobId={}", job.getJobId(), e);
+        } finally {
+            CompletableFuture<ExamPdfJobResponse> future = runningJobs.remove(job.getJobId());
+            if (future != null) {
+                future.complete(result);
+            }
+        }
+        if (fatal != null) {
+            throw fatal;
+        }
+    }
+
+    private Exam findAccessibleExam(Long examId, Long userId) {
+        Exam exam = examRepository.findById(examId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.EXAM_NOT_FOUND));
+        if (!exam.isAccessibleBy(userId, null)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        return exam;
+    }
+
+    private void saveJob(ExamPdfJobResponse job) {
+        cacheService.put(KEY_PREFIX_EXAM_PDF_JOB + job.getJobId(), job,
+                properties.getJobRetention().toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return "PDF 생성 중 오류가 발생했습니다.";
+        }
+        return message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+    }
+}
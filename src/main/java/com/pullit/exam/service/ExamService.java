@@ -0,0 +1,12 @@
+package com.pullit.exam.service;
+
+import com.pullit.common.dto.response.PageResponse;
+import com.pullit.exam.dto.response.ExamSummaryResponse;
+
+import java.util.List;
+
+public interface ExamService {
+    PageResponse<ExamSummaryResponse> findPublicExamPage(String cursor, Integer size);
+    PageResponse<ExamSummaryResponse> findAccessibleExamPage(Long userId, String cursor, Integer size);
+    List<String> suggestExamNames(String query, Long userId, Integer limit);
+}
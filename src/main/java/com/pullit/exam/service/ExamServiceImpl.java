@@ -0,0 +1,184 @@
+package com.pullit.exam.service;
+
+import com.pullit.common.dto.response.PageResponse;
+import com.pullit.exam.dto.request.ExamCursor;
+import com.pullit.exam.dto.response.ExamItemCount;
+import com.pullit.exam.dto.response.ExamSummaryResponse;
+import com.pullit.exam.enums.ExamVisibility;
+import com.pullit.exam.repository.ExamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ExamServiceImpl implements ExamService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SUGGEST_LIMIT = 10;
+    private static final int MAX_SUGGEST_LIMIT = 20;
+    private static final int MAX_SUGGEST_QUERY_LENGTH = 50;
+    private static final int NGRAM_TOKEN_SIZE = 2;  // MySQL ngram_token_size 기본값
+    private static final String BOOLEAN_OPERATORS = "[+\\-<>()~*\"@]";
+    private static final long FULLTEXT_RECHECK_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final ExamRepository examRepository;
+
+    // FULLTEXT 인덱스 존재 여부 (FULLTEXT_RECHECK_INTERVAL_NANOS 주기로 다시 확인)
+    private volatile boolean fulltextAvailable;
+    private volatile long fulltextCheckedAt;
+    private volatile boolean fulltextChecked;
+
+    /**
+     * 전체 공개 시험지 목록 (2단계 키셋 페이지네이션, 전체 개수 없이 다음 페이지 여부만 반환)
+     * 비공개/학교 공개 시험지는 소유자 조건이 필요하므로 findAccessibleExamPage에서만 조회한다.
+     * 1) 인덱스만으로 페이지의 ID를 찾고 2) 그 ID의 목록 항목과 문항 수를 IN 조회한다.
+     * 컬렉션 페치 조인이 없으므로 메모리 페이징(HHH90003004)이 발생하지 않는다.
+     */
+    @Override
+    public PageResponse<ExamSummaryResponse> findPublicExamPage(String cursor, Integer size) {
+        int pageSize = Math.min(Math.max(size != null ? size : DEFAULT_PAGE_SIZE, 1), MAX_PAGE_SIZE);
+        ExamCursor after = (cursor == null || cursor.isBlank()) ? null : ExamCursor.decode(cursor);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Long> ids = after == null
+                ? examRepository.findPageIdsByVisibility(ExamVisibility.PUBLIC, limit)
+                : examRepository.findPageIdsByVisibilityAfter(ExamVisibility.PUBLIC, after.updatedDate(),
+                        after.examId(), limit);
+        return toPage(ids, pageSize, after == null);
+    }
+
+    /**
+     * 사용자가 볼 수 있는 시험지 목록 (전체 공개 + 본인 시험지)
+     * 접근 조건을 WHERE 절에서 평가하므로 볼 수 없는 시험지는 읽지 않는다.
+     */
+    @Override
+    public PageResponse<ExamSummaryResponse> findAccessibleExamPage(Long userId, String cursor, Integer size) {
+        int pageSize = Math.min(Math.max(size != null ? size : DEFAULT_PAGE_SIZE, 1), MAX_PAGE_SIZE);
+        ExamCursor after = (cursor == null || cursor.isBlank()) ? null : ExamCursor.decode(cursor);
+
+        List<Long> ids = examRepository.findAccessibleKeys(userId, after, pageSize + 1).stream()
+                .map(ExamCursor::examId)
+                .toList();
+        return toPage(ids, pageSize, after == null);
+    }
+
+    /**
+     * 시험지 이름 자동완성 (최근 수정순, 중복 이름 제거)
+     * ngram FULLTEXT 인덱스로 부분 일치를 찾고, 인덱스가 없는 DB에서는 LIKE 조회로 대체한다.
+     * 실패한 MATCH 조회가 읽기 전용 트랜잭션을 rollback-only로 만들면 대체 조회 결과도 커밋 시
+     * UnexpectedRollbackException으로 버려지므로, 트랜잭션 없이 조회마다 리포지토리 트랜잭션을 쓴다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> suggestExamNames(String query, Long userId, Integer limit) {
+        int size = Math.min(Math.max(limit != null ? limit : DEFAULT_SUGGEST_LIMIT, 1), MAX_SUGGEST_LIMIT);
+        String trimmed = query == null ? "" : query.strip();
+        if (trimmed.length() > MAX_SUGGEST_QUERY_LENGTH) {
+            trimmed = trimmed.substring(0, MAX_SUGGEST_QUERY_LENGTH);
+        }
+        if (trimmed.isEmpty()) {
+            return List.of();
+        }
+
+        if (!isFulltextAvailable()) {
+            return examRepository.findExamNamesByQuery(trimmed, userId, PageRequest.of(0, size));
+        }
+        String booleanQuery = toBooleanQuery(trimmed);
+        if (booleanQuery.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return examRepository.findExamNamesByFulltext(booleanQuery, userId, size);
+        } catch (DataAccessException e) {
+            // 인덱스가 삭제된 경우 다음 확인 주기까지 LIKE 조회로 대체
+            log.warn("FULLTEXT 자동완성 조회 실패, LIKE 조회로 대체합니다: {}", e.getMessage());
+            markFulltextAvailable(false);
+            return examRepository.findExamNamesByQuery(trimmed, userId, PageRequest.of(0, size));
+        }
+    }
+
+    /**
+     * 입력을 BOOLEAN MODE 검색식으로 변환
+     * 단어마다 필수(+) 구문 검색("...")으로 ngram 연속 일치(부분 문자열)를 요구하고,
+     * ngram 크기보다 짧은 단어는 접두 검색(*)으로 해당 문자로 시작하는 토큰을 찾는다.
+     */
+    static String toBooleanQuery(String query) {
+        List<String> terms = new ArrayList<>();
+        for (String word : query.replaceAll(BOOLEAN_OPERATORS, " ").split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            terms.add(word.length() < NGRAM_TOKEN_SIZE ? "+" + word + "*" : "+\"" + word + "\"");
+        }
+        return String.join(" ", terms);
+    }
+
+    /**
+     * FULLTEXT 인덱스 사용 가능 여부
+     * 결과를 주기적으로 다시 확인하여 배포 후 생성/삭제된 인덱스를 재시작 없이 반영한다.
+     */
+    private boolean isFulltextAvailable() {
+        if (fulltextChecked && System.nanoTime() - fulltextCheckedAt < FULLTEXT_RECHECK_INTERVAL_NANOS) {
+            return fulltextAvailable;
+        }
+        boolean available = examRepository.countExamNameFulltextIndex() > 0;
+        if (!available) {
+            log.warn("ft_exams_exam_name 인덱스가 없어 시험지 이름 자동완성에 LIKE 조회를 사용합니다.");
+        }
+        markFulltextAvailable(available);
+        return available;
+    }
+
+    private void markFulltextAvailable(boolean available) {
+        fulltextAvailable = available;
+        fulltextCheckedAt = System.nanoTime();
+        fulltextChecked = true;
+    }
+
+    /**
+     * 2단계: 1단계에서 찾은 ID(pageSize + 1건)로 목록 항목과 문항 수를 IN 조회
+     */
+    private PageResponse<ExamSummaryResponse> toPage(List<Long> ids, int pageSize, boolean first) {
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        if (pageIds.isEmpty()) {
+            return PageResponse.ofCursor(List.of(), pageSize, first, null);
+        }
+
+        Map<Long, ExamSummaryResponse> summaries = examRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(ExamSummaryResponse::getExamId, Function.identity()));
+        Map<Long, Long> itemCounts = examRepository.countItemsByExamIdIn(pageIds).stream()
+                .collect(Collectors.toMap(ExamItemCount::getExamId, ExamItemCount::getItemCount));
+
+        // 1단계 정렬 순서 유지 (그 사이 삭제된 시험지는 제외)
+        List<ExamSummaryResponse> content = pageIds.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+        content.forEach(summary -> summary.updateItemCount(
+                itemCounts.getOrDefault(summary.getExamId(), 0L).intValue()));
+
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            ExamSummaryResponse last = content.get(content.size() - 1);
+            nextCursor = new ExamCursor(last.getUpdatedDate(), last.getExamId()).encode();
+        }
+        return PageResponse.ofCursor(content, pageSize, first, nextCursor);
+    }
+}
@@ -33,6 +33,7 @@ public class FileHistoryDTO {
                 .id(fileHistory.getId())
                 .examId(fileHistory.getExamId())
                 .fileHistoryName(fileHistory.getFileHistoryName())
+                .originPdfUrl(fileHistory.getOriginPdfUrl())
                 .createdBy(fileHistory.getCreatedBy())
                 .createdDate(fileHistory.getCreatedDate())
                 .build();
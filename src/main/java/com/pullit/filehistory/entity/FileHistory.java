@@ -6,7 +6,10 @@ import lombok.*;
 import java.sql.Timestamp;
 
 @Entity
-@Table(name="file_history")
+@Table(name="file_history", indexes = {
+        // V1__add_query_indexes.sql과 같은 이름 유지
+        @Index(name = "idx_file_history_exam_created", columnList = "exam_id, created_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
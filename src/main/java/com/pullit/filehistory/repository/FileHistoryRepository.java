@@ -5,7 +5,11 @@ import com.pullit.filehistory.entity.FileHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface FileHistoryRepository extends JpaRepository<FileHistory, Long> {
 
+    // idx_file_history_exam_created
+    List<FileHistory> findByExamIdOrderByCreatedDateDesc(Long examId);
 }
@@ -0,0 +1,56 @@
+package com.pullit.item.controller;
+
+import com.pullit.common.dto.response.ApiResponse;
+import com.pullit.common.dto.response.PageResponse;
+import com.pullit.item.dto.request.ItemSearchCondition;
+import com.pullit.item.dto.response.ItemContentResponse;
+import com.pullit.item.dto.response.ItemDetailResponse;
+import com.pullit.item.dto.response.ItemSummaryResponse;
+import com.pullit.item.enums.ItemContentView;
+import com.pullit.item.service.ItemService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/item")
+@RequiredArgsConstructor
+public class ItemController {
+    private final ItemService itemService;
+
+    @GetMapping
+    @Operation(summary = "문항 검색", description = "교과서/단원/난이도/문제형식/평가영역 조건, 커서 기반 페이지네이션")
+    public ResponseEntity<ApiResponse<PageResponse<ItemSummaryResponse>>> searchItems(
+            @Valid @ModelAttribute ItemSearchCondition condition) {
+        PageResponse<ItemSummaryResponse> page = itemService.searchItems(condition);
+        return ResponseEntity.ok(ApiResponse.success(page));
+    }
+
+    @GetMapping("/{itemId}")
+    @Operation(summary = "문항 상세 조회")
+    public ResponseEntity<ApiResponse<ItemDetailResponse>> findItemDetail(@PathVariable Long itemId) {
+        ItemDetailResponse item = itemService.findItemDetail(itemId);
+        return ResponseEntity.ok(ApiResponse.success(item));
+    }
+
+    @GetMapping("/contents")
+    @Operation(summary = "문항 HTML 일괄 조회",
+            description = "view: PREVIEW(발문+선택지), QUESTION(지문 포함), ANSWER, EXPLANATION. 필요한 컬럼만 조회")
+    public ResponseEntity<ApiResponse<List<ItemContentResponse>>> findItemContents(
+            @RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "PREVIEW") ItemContentView view) {
+        List<ItemContentResponse> contents = itemService.findItemContents(ids, view);
+        return ResponseEntity.ok(ApiResponse.success(contents));
+    }
+
+    @GetMapping("/details")
+    @Operation(summary = "문항 상세 일괄 조회", description = "ids 순서대로 반환 (최대 100개)")
+    public ResponseEntity<ApiResponse<List<ItemDetailResponse>>> findItemDetails(@RequestParam List<Long> ids) {
+        List<ItemDetailResponse> items = itemService.findItemDetails(ids);
+        return ResponseEntity.ok(ApiResponse.success(items));
+    }
+}
@@ -1,13 +1,16 @@
 package com.pullit.item.controller;
 
 
+import com.pullit.common.annotation.CachedResponse;
 import com.pullit.common.dto.response.ApiResponse;
 import com.pullit.item.dto.response.SubjectResponse;
+import com.pullit.item.dto.response.SubjectStatisticsResponse;
 import com.pullit.item.service.SubjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,9 +23,24 @@ public class SubjectController {
     private final SubjectService subjectService;
 
     @GetMapping
+    @CachedResponse
     @Operation(summary = "교과서 리스트 전체 조회", description = "교과서 전체 리스트")
     public ResponseEntity<ApiResponse<List<SubjectResponse>>> findAll() {
         List<SubjectResponse> res = subjectService.findAllSubjectsOnly();
         return ResponseEntity.ok(ApiResponse.success(res));
     }
+
+    @GetMapping("/statistics")
+    @Operation(summary = "교과서 통계 전체 조회", description = "교과서별 단계별 단원 수, 난이도별 문항 수")
+    public ResponseEntity<ApiResponse<List<SubjectStatisticsResponse>>> findAllStatistics() {
+        List<SubjectStatisticsResponse> res = subjectService.findAllStatistics();
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
+    @GetMapping("/{subjectId}/statistics")
+    @Operation(summary = "교과서 통계 조회", description = "단계별 단원 수, 난이도별 문항 수")
+    public ResponseEntity<ApiResponse<SubjectStatisticsResponse>> findStatistics(@PathVariable Long subjectId) {
+        SubjectStatisticsResponse res = subjectService.findStatistics(subjectId);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
 }
@@ -0,0 +1,41 @@
+package com.pullit.item.dao;
+
+import com.pullit.item.dto.response.ItemDifficultyCount;
+import com.pullit.item.entity.ItemMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ItemMetadataRepository extends JpaRepository<ItemMetadata, Long>, ItemMetadataRepositoryCustom {
+
+    /**
+     * 교과서/난이도별 문항 수 집계 (idx_item_metadata_subject_difficulty 순서로 그룹핑)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.pullit.item.dto.response.ItemDifficultyCount(" +
+            "i.subject.subjectId, i.difficulty.code, MAX(i.difficulty.name), COUNT(i)) " +
+            "FROM ItemMetadata i " +
+            "WHERE i.subject IS NOT NULL " +
+            "GROUP BY i.subject.subjectId, i.difficulty.code " +
+            "ORDER BY i.subject.subjectId, i.difficulty.code")
+    List<ItemDifficultyCount> countGroupBySubjectAndDifficulty();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.pullit.item.dto.response.ItemDifficultyCount(" +
+            "i.subject.subjectId, i.difficulty.code, MAX(i.difficulty.name), COUNT(i)) " +
+            "FROM ItemMetadata i " +
+            "WHERE i.subject.subjectId = :subjectId " +
+            "GROUP BY i.subject.subjectId, i.difficulty.code " +
+            "ORDER BY i.difficulty.code")
+    List<ItemDifficultyCount> countGroupByDifficulty(@Param("subjectId") Long subjectId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT i.itemId FROM ItemMetadata i WHERE i.itemId IN :itemIds")
+    List<Long> findExistingItemIds(@Param("itemIds") Collection<Long> itemIds);
+}
@@ -0,0 +1,30 @@
+package com.pullit.item.dao;
+
+import com.pullit.item.dto.request.ItemSearchCondition;
+import com.pullit.item.dto.response.ItemContentResponse;
+import com.pullit.item.dto.response.ItemSummaryResponse;
+import com.pullit.item.entity.ItemMetadata;
+import com.pullit.item.enums.ItemContentView;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemMetadataRepositoryCustom {
+
+    /**
+     * 문항 목록 키셋 조회 (item_metadata만 조회, item_id 오름차순)
+     * @param afterItemId 직전 페이지의 마지막 item_id, null이면 첫 페이지
+     * @param limit 조회할 최대 행 수
+     */
+    List<ItemSummaryResponse> searchSummaries(ItemSearchCondition condition, Long afterItemId, int limit);
+
+    /**
+     * 문항 상세 조회 (HTML/이미지를 fetch join으로 한 번에 로딩)
+     */
+    List<ItemMetadata> findAllWithContentByIdIn(Collection<Long> itemIds);
+
+    /**
+     * 문항 HTML 중 view에 필요한 컬럼만 조회 (item_html_data 단일 쿼리)
+     */
+    List<ItemContentResponse> findContents(Collection<Long> itemIds, ItemContentView view);
+}
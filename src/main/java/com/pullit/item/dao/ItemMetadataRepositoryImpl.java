@@ -0,0 +1,127 @@
+package com.pullit.item.dao;
+
+import com.pullit.item.dto.request.ItemSearchCondition;
+import com.pullit.item.dto.response.ItemContentResponse;
+import com.pullit.item.dto.response.ItemSummaryResponse;
+import com.pullit.item.entity.ItemMetadata;
+import com.pullit.item.enums.ItemContentView;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.pullit.item.entity.QItemActivityMapping.itemActivityMapping;
+import static com.pullit.item.entity.QItemHtmlData.itemHtmlData;
+import static com.pullit.item.entity.QItemImageData.itemImageData;
+import static com.pullit.item.entity.QItemMetadata.itemMetadata;
+
+@RequiredArgsConstructor
+public class ItemMetadataRepositoryImpl implements ItemMetadataRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ItemSummaryResponse> searchSummaries(ItemSearchCondition condition, Long afterItemId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(ItemSummaryResponse.class,
+                        itemMetadata.itemId,
+                        itemMetadata.subject.subjectId,
+                        itemMetadata.questionForm.code, itemMetadata.questionForm.name,
+                        itemMetadata.difficulty.code, itemMetadata.difficulty.name,
+                        itemMetadata.chapterHierarchy.largeChapter.code,
+                        itemMetadata.chapterHierarchy.largeChapter.name,
+                        itemMetadata.chapterHierarchy.mediumChapter.code,
+                        itemMetadata.chapterHierarchy.mediumChapter.name,
+                        itemMetadata.chapterHierarchy.smallChapter.code,
+                        itemMetadata.chapterHierarchy.smallChapter.name,
+                        itemMetadata.chapterHierarchy.topicChapter.code,
+                        itemMetadata.chapterHierarchy.topicChapter.name,
+                        itemMetadata.passageId,
+                        itemMetadata.hasHtmlData,
+                        itemMetadata.hasImageData))
+                .from(itemMetadata)
+                .where(
+                        eq(itemMetadata.subject.subjectId, condition.getSubjectId()),
+                        eq(itemMetadata.chapterHierarchy.largeChapter.code, condition.getLargeChapterId()),
+                        eq(itemMetadata.chapterHierarchy.mediumChapter.code, condition.getMediumChapterId()),
+                        eq(itemMetadata.chapterHierarchy.smallChapter.code, condition.getSmallChapterId()),
+                        eq(itemMetadata.chapterHierarchy.topicChapter.code, condition.getTopicChapterId()),
+                        eq(itemMetadata.difficulty.code, condition.getDifficultyCode()),
+                        eq(itemMetadata.questionForm.code, condition.getQuestionFormCode()),
+                        inEvaluationDomain(condition.getEvaluationDomainId()),
+                        afterItemId != null ? itemMetadata.itemId.gt(afterItemId) : null)
+                .orderBy(itemMetadata.itemId.asc())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ItemMetadata> findAllWithContentByIdIn(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(itemMetadata)
+                .leftJoin(itemMetadata.htmlData, itemHtmlData).fetchJoin()
+                .leftJoin(itemMetadata.imageData, itemImageData).fetchJoin()
+                .where(itemMetadata.itemId.in(itemIds))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .fetch();
+    }
+
+    @Override
+    public List<ItemContentResponse> findContents(Collection<Long> itemIds, ItemContentView view) {
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .select(Projections.fields(ItemContentResponse.class, contentColumns(view)))
+                .from(itemHtmlData)
+                .where(itemHtmlData.itemId.in(itemIds))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .fetch();
+    }
+
+    // 조회 범위별 컬럼 (필드명 = ItemContentResponse 프로퍼티명)
+    private static Expression<?>[] contentColumns(ItemContentView view) {
+        return switch (view) {
+            case PREVIEW -> new Expression<?>[]{itemHtmlData.itemId,
+                    itemHtmlData.questionHtml,
+                    itemHtmlData.choice1Html, itemHtmlData.choice2Html, itemHtmlData.choice3Html,
+                    itemHtmlData.choice4Html, itemHtmlData.choice5Html};
+            case QUESTION -> new Expression<?>[]{itemHtmlData.itemId,
+                    itemHtmlData.passageHtml, itemHtmlData.questionHtml,
+                    itemHtmlData.choice1Html, itemHtmlData.choice2Html, itemHtmlData.choice3Html,
+                    itemHtmlData.choice4Html, itemHtmlData.choice5Html};
+            case ANSWER -> new Expression<?>[]{itemHtmlData.itemId,
+                    itemHtmlData.answerHtml};
+            case EXPLANATION -> new Expression<?>[]{itemHtmlData.itemId,
+                    itemHtmlData.answerHtml, itemHtmlData.explainHtml};
+        };
+    }
+
+    // 값이 없으면 조건 제외 (where 절에서 null은 무시됨)
+    private static BooleanExpression eq(NumberPath<Long> path, Long value) {
+        return value != null ? path.eq(value) : null;
+    }
+
+    // 평가 영역은 매핑 테이블 존재 여부로 필터 (지정한 경우에만 조인 없이 서브쿼리)
+    private static BooleanExpression inEvaluationDomain(Long domainId) {
+        if (domainId == null) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+                .from(itemActivityMapping)
+                .where(itemActivityMapping.id.itemId.eq(itemMetadata.itemId),
+                        itemActivityMapping.id.activityCategoryId.eq(domainId))
+                .exists();
+    }
+}
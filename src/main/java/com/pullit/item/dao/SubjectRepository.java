@@ -1,9 +1,33 @@
 package com.pullit.item.dao;
 
+import com.pullit.item.dto.response.SubjectResponse;
 import com.pullit.item.entity.Subject;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
-public interface SubjectRepository extends JpaRepository<Subject, Integer>{
+public interface SubjectRepository extends JpaRepository<Subject, Long> {
+
+    /**
+     * 교과서 목록 DTO 프로젝션 (엔티티/연관관계 로딩 없이 필요한 컬럼만 조회)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.pullit.item.dto.response.SubjectResponse(" +
+            "s.subjectId, s.subjectName, s.subjectThumbnail, " +
+            "s.curriculum.code, s.curriculum.name, " +
+            "s.schoolLevel.code, s.schoolLevel.name, " +
+            "s.grade.code, s.grade.name, " +
+            "s.term.code, s.term.name, " +
+            "s.area.code, s.area.name) " +
+            "FROM Subject s " +
+            "ORDER BY s.subjectId")
+    List<SubjectResponse> findAllResponses();
 }
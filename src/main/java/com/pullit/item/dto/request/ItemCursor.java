@@ -0,0 +1,36 @@
+package com.pullit.item.dto.request;
+
+import com.pullit.common.exception.BusinessException;
+import com.pullit.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 문항 목록 키셋 페이지네이션 커서 (item_id 오름차순)
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 토큰으로 전달한다.
+ */
+public record ItemCursor(long itemId) {
+
+    private static final String PREFIX = "v1,";
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + itemId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws BusinessException 형식이 잘못된 커서
+     */
+    public static ItemCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.");
+            }
+            return new ItemCursor(Long.parseLong(raw.substring(PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.pullit.item.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 문항 검색 조건 (값이 없는 조건은 적용하지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSearchCondition {
+
+    private Long subjectId;
+
+    // 단원 계층 (원하는 단계까지만 지정)
+    private Long largeChapterId;
+    private Long mediumChapterId;
+    private Long smallChapterId;
+    private Long topicChapterId;
+
+    private Long difficultyCode;
+    private Long questionFormCode;
+    private Long evaluationDomainId;
+
+    private String cursor;           // 이전 응답의 nextCursor
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+    private Integer size = 20;
+}
@@ -0,0 +1,29 @@
+package com.pullit.item.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 문항 HTML (ItemContentView 범위의 필드만 채워짐)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "문항 HTML")
+public class ItemContentResponse {
+    private Long itemId;
+
+    private String passageHtml;
+    private String questionHtml;
+    private String choice1Html;
+    private String choice2Html;
+    private String choice3Html;
+    private String choice4Html;
+    private String choice5Html;
+    private String answerHtml;
+    private String explainHtml;
+}
@@ -0,0 +1,103 @@
+package com.pullit.item.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pullit.item.embedded.ChapterHierarchy;
+import com.pullit.item.embedded.CodeNamePair;
+import com.pullit.item.entity.ItemHtmlData;
+import com.pullit.item.entity.ItemImageData;
+import com.pullit.item.entity.ItemMetadata;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문항 상세 (메타데이터 + HTML + 이미지)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "문항 상세")
+public class ItemDetailResponse {
+    private Long itemId;
+    private Long subjectId;
+
+    private Long questionFormCode;
+    private String questionFormName;
+    private Long difficultyCode;
+    private String difficultyName;
+    private String chapterPath;
+    private Long passageId;
+
+    // HTML
+    private String passageHtml;
+    private String questionHtml;
+    private String choice1Html;
+    private String choice2Html;
+    private String choice3Html;
+    private String choice4Html;
+    private String choice5Html;
+    private String answerHtml;
+    private String explainHtml;
+
+    // 이미지
+    private String passageUrl;
+    private String questionUrl;
+    private String answerUrl;
+    private String explainUrl;
+
+    /**
+     * htmlData/imageData가 fetch join으로 함께 로딩된 엔티티에서 변환
+     */
+    public static ItemDetailResponse from(ItemMetadata item) {
+        if (item == null) return null;
+
+        ItemDetailResponseBuilder builder = ItemDetailResponse.builder()
+                .itemId(item.getItemId())
+                .subjectId(item.getSubject() != null ? item.getSubject().getSubjectId() : null)
+                .questionFormCode(codeOf(item.getQuestionForm()))
+                .questionFormName(nameOf(item.getQuestionForm()))
+                .difficultyCode(codeOf(item.getDifficulty()))
+                .difficultyName(nameOf(item.getDifficulty()))
+                .chapterPath(pathOf(item.getChapterHierarchy()))
+                .passageId(item.getPassageId());
+
+        ItemHtmlData html = item.getHtmlData();
+        if (html != null) {
+            builder.passageHtml(html.getPassageHtml())
+                    .questionHtml(html.getQuestionHtml())
+                    .choice1Html(html.getChoice1Html())
+                    .choice2Html(html.getChoice2Html())
+                    .choice3Html(html.getChoice3Html())
+                    .choice4Html(html.getChoice4Html())
+                    .choice5Html(html.getChoice5Html())
+                    .answerHtml(html.getAnswerHtml())
+                    .explainHtml(html.getExplainHtml());
+        }
+
+        ItemImageData image = item.getImageData();
+        if (image != null) {
+            builder.passageUrl(image.getPassageUrl())
+                    .questionUrl(image.getQuestionUrl())
+                    .answerUrl(image.getAnswerUrl())
+                    .explainUrl(image.getExplainUrl());
+        }
+        return builder.build();
+    }
+
+    // -------- 내부 유틸 --------
+    private static Long codeOf(CodeNamePair pair) {
+        return pair != null ? pair.getCode() : null;
+    }
+
+    private static String nameOf(CodeNamePair pair) {
+        return pair != null ? pair.getName() : null;
+    }
+
+    private static String pathOf(ChapterHierarchy hierarchy) {
+        return hierarchy != null ? hierarchy.getFullPath() : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.pullit.item.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 교과서별 난이도별 문항 수 (ItemMetadataRepository.countGroupBySubjectAndDifficulty 프로젝션)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemDifficultyCount {
+    @JsonIgnore
+    private Long subjectId;
+    private Long difficultyCode;
+    private String difficultyName;
+    private Long itemCount;
+}
@@ -0,0 +1,40 @@
+package com.pullit.item.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문항 목록 항목 (item_metadata 컬럼만 사용)
+ * 필드 순서는 ItemMetadataRepositoryImpl의 생성자 프로젝션 순서와 같아야 한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "문항 목록")
+public class ItemSummaryResponse {
+    private Long itemId;
+    private Long subjectId;
+
+    private Long questionFormCode;
+    private String questionFormName;
+
+    private Long difficultyCode;
+    private String difficultyName;
+
+    private Long largeChapterId;
+    private String largeChapterName;
+    private Long mediumChapterId;
+    private String mediumChapterName;
+    private Long smallChapterId;
+    private String smallChapterName;
+    private Long topicChapterId;
+    private String topicChapterName;
+
+    private Long passageId;
+    private Boolean hasHtmlData;
+    private Boolean hasImageData;
+}
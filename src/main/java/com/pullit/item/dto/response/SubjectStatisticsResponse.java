@@ -0,0 +1,50 @@
+package com.pullit.item.dto.response;
+
+import com.pullit.chapter.dto.response.ChapterLevelCount;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 교과서 통계 (단원 수, 난이도별 문항 수)
+ * 교과서 카드 표시용으로 Subject.chapters/items 컬렉션을 로딩하지 않고 그룹 집계 쿼리 결과로 만든다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "교과서 통계")
+public class SubjectStatisticsResponse {
+    private Long subjectId;
+
+    private long chapterCount;
+    private long largeChapterCount;
+    private long mediumChapterCount;
+    private long smallChapterCount;
+    private long topicChapterCount;
+
+    private long itemCount;
+    // 캐시 직렬화 시 타입 정보가 남도록 ArrayList 사용
+    @Builder.Default
+    private List<ItemDifficultyCount> itemCountsByDifficulty = new ArrayList<>();
+
+    public static SubjectStatisticsResponse of(Long subjectId, ChapterLevelCount chapters,
+                                               List<ItemDifficultyCount> difficulties) {
+        List<ItemDifficultyCount> itemCounts = difficulties != null ? new ArrayList<>(difficulties) : new ArrayList<>();
+        return SubjectStatisticsResponse.builder()
+                .subjectId(subjectId)
+                .chapterCount(chapters != null ? chapters.getChapterCount() : 0)
+                .largeChapterCount(chapters != null ? chapters.getLargeChapterCount() : 0)
+                .mediumChapterCount(chapters != null ? chapters.getMediumChapterCount() : 0)
+                .smallChapterCount(chapters != null ? chapters.getSmallChapterCount() : 0)
+                .topicChapterCount(chapters != null ? chapters.getTopicChapterCount() : 0)
+                .itemCount(itemCounts.stream().mapToLong(ItemDifficultyCount::getItemCount).sum())
+                .itemCountsByDifficulty(itemCounts)
+                .build();
+    }
+}
@@ -5,9 +5,17 @@ import com.pullit.item.embedded.ChapterHierarchy;
 import com.pullit.item.embedded.CodeNamePair;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
-@Table(name = "item_metadata")
+@Table(name = "item_metadata", indexes = {
+        // V1__add_query_indexes.sql과 같은 이름 유지
+        @Index(name = "idx_item_metadata_subject_chapter",
+                columnList = "subject_id, large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id"),
+        @Index(name = "idx_item_metadata_subject_difficulty",
+                columnList = "subject_id, difficulty_code, question_form_code")
+})
+@BatchSize(size = 100)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -50,6 +58,9 @@ public class ItemMetadata extends BaseTimeEntity {
     @Builder.Default
     private Boolean hasImageData = false;
 
+    // mappedBy 쪽 1:1은 바이트코드 향상 없이는 지연 로딩되지 않는다 (LAZY, @BatchSize 무시).
+    // ItemMetadata를 로딩할 때마다 행당 SELECT가 htmlData/imageData 각 1번씩 추가되므로
+    // 엔티티가 필요하면 findAllWithContentByIdIn처럼 둘 다 fetch join하고, 그 외에는 프로젝션으로 조회한다.
     @OneToOne(mappedBy = "itemMetadata", fetch = FetchType.LAZY,
             cascade = CascadeType.ALL, orphanRemoval = true)
     private ItemHtmlData htmlData;
@@ -4,12 +4,14 @@ import com.pullit.chapter.entity.Chapter;
 import com.pullit.common.embedded.StringCodeNamePair;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "subjects")
+@BatchSize(size = 100)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -62,10 +64,12 @@ public class Subject {
     private StringCodeNamePair area;
 
     @OneToMany(mappedBy = "subject", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<Chapter> chapters = new ArrayList<>();
 
     @OneToMany(mappedBy = "subject", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<ItemMetadata> items = new ArrayList<>();
 
@@ -92,10 +96,18 @@ public class Subject {
                 (schoolLevel.hasCode("ELEMENTARY") || "초등학교".equals(schoolLevel.getName()));
     }
 
+    /**
+     * 단원 컬렉션 전체를 로딩한다. 개수만 필요하면 SubjectService.findStatistics 사용
+     */
+    @Deprecated
     public int getChapterCount() {
         return chapters != null ? chapters.size() : 0;
     }
 
+    /**
+     * 문항 컬렉션 전체를 로딩한다. 개수만 필요하면 SubjectService.findStatistics 사용
+     */
+    @Deprecated
     public int getItemCount() {
         return items != null ? items.size() : 0;
     }
@@ -0,0 +1,20 @@
+package com.pullit.item.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 문항 HTML 조회 범위
+ * 화면에 필요한 컬럼만 조회해 사용하지 않는 TEXT 컬럼(지문/해설 등)을 읽지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ItemContentView {
+    PREVIEW("미리보기", "발문 + 선택지"),
+    QUESTION("문제", "지문 + 발문 + 선택지"),
+    ANSWER("정답", "정답"),
+    EXPLANATION("해설", "정답 + 해설");
+
+    private final String title;
+    private final String description;
+}
@@ -0,0 +1,18 @@
+package com.pullit.item.service;
+
+import com.pullit.common.dto.response.PageResponse;
+import com.pullit.item.dto.request.ItemSearchCondition;
+import com.pullit.item.dto.response.ItemContentResponse;
+import com.pullit.item.dto.response.ItemDetailResponse;
+import com.pullit.item.dto.response.ItemSummaryResponse;
+
+import com.pullit.item.enums.ItemContentView;
+
+import java.util.List;
+
+public interface ItemService {
+    PageResponse<ItemSummaryResponse> searchItems(ItemSearchCondition condition);
+    ItemDetailResponse findItemDetail(Long itemId);
+    List<ItemDetailResponse> findItemDetails(List<Long> itemIds);
+    List<ItemContentResponse> findItemContents(List<Long> itemIds, ItemContentView view);
+}
@@ -0,0 +1,104 @@
+package com.pullit.item.service;
+
+import com.pullit.common.annotation.RedisCacheable;
+import com.pullit.common.dto.response.PageResponse;
+import com.pullit.common.exception.BusinessException;
+import com.pullit.common.exception.ErrorCode;
+import com.pullit.item.dao.ItemMetadataRepository;
+import com.pullit.item.dto.request.ItemCursor;
+import com.pullit.item.dto.request.ItemSearchCondition;
+import com.pullit.item.dto.response.ItemContentResponse;
+import com.pullit.item.dto.response.ItemDetailResponse;
+import com.pullit.item.dto.response.ItemSummaryResponse;
+import com.pullit.item.entity.ItemMetadata;
+import com.pullit.item.enums.ItemContentView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.pullit.common.constants.CacheConstants.DEFAULT_TTL_MINUTES;
+import static com.pullit.common.constants.CacheConstants.KEY_PREFIX_ITEM_DETAIL;
+
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ItemServiceImpl implements ItemService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_DETAIL_IDS = 100;
+
+    private final ItemMetadataRepository itemMetadataRepository;
+
+    @Override
+    public PageResponse<ItemSummaryResponse> searchItems(ItemSearchCondition condition) {
+        int size = condition.getSize() != null ? condition.getSize() : DEFAULT_PAGE_SIZE;
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String cursor = condition.getCursor();
+        Long afterItemId = (cursor == null || cursor.isBlank()) ? null : ItemCursor.decode(cursor).itemId();
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<ItemSummaryResponse> rows = itemMetadataRepository.searchSummaries(condition, afterItemId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ItemSummaryResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? new ItemCursor(content.get(content.size() - 1).getItemId()).encode() : null;
+        return PageResponse.ofCursor(content, pageSize, afterItemId == null, nextCursor);
+    }
+
+    /**
+     * 문항 상세 단건 조회 (HTML 컬럼이 커서 압축해 캐시, 문항은 적재 후 수정되지 않음)
+     */
+    @Override
+    @RedisCacheable(key = "'" + KEY_PREFIX_ITEM_DETAIL + "' + #itemId", ttl = DEFAULT_TTL_MINUTES, compress = true)
+    public ItemDetailResponse findItemDetail(Long itemId) {
+        return itemMetadataRepository.findAllWithContentByIdIn(List.of(itemId)).stream()
+                .findFirst()
+                .map(ItemDetailResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ITEM_NOT_FOUND));
+    }
+
+    /**
+     * 여러 문항 상세를 한 번의 쿼리로 조회 (요청한 ID 순서 유지, 없는 ID는 제외)
+     */
+    @Override
+    public List<ItemDetailResponse> findItemDetails(List<Long> itemIds) {
+        LinkedHashSet<Long> ids = distinctIds(itemIds);
+        Map<Long, ItemMetadata> items = itemMetadataRepository.findAllWithContentByIdIn(ids).stream()
+                .collect(Collectors.toMap(ItemMetadata::getItemId, Function.identity()));
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .map(ItemDetailResponse::from)
+                .toList();
+    }
+
+    /**
+     * 문항 HTML을 화면 범위(view)의 컬럼만 조회 (요청한 ID 순서 유지, 없는 ID는 제외)
+     */
+    @Override
+    public List<ItemContentResponse> findItemContents(List<Long> itemIds, ItemContentView view) {
+        LinkedHashSet<Long> ids = distinctIds(itemIds);
+        Map<Long, ItemContentResponse> contents = itemMetadataRepository.findContents(ids, view).stream()
+                .collect(Collectors.toMap(ItemContentResponse::getItemId, Function.identity()));
+        return ids.stream()
+                .map(contents::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private LinkedHashSet<Long> distinctIds(List<Long> itemIds) {
+        LinkedHashSet<Long> ids = itemIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.size() > MAX_DETAIL_IDS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "한 번에 조회할 수 있는 문항은 " + MAX_DETAIL_IDS + "개까지입니다.");
+        }
+        return ids;
+    }
+}
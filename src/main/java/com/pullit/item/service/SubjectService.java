@@ -1,6 +1,7 @@
 package com.pullit.item.service;
 
 import com.pullit.item.dto.response.SubjectResponse;
+import com.pullit.item.dto.response.SubjectStatisticsResponse;
 import com.pullit.item.entity.Subject;
 
 import java.util.List;
@@ -8,4 +9,7 @@ import java.util.List;
 public interface SubjectService {
     List<Subject> findByAll();
     List<SubjectResponse> findAllSubjectsOnly();
+    List<SubjectStatisticsResponse> findAllStatistics();
+    SubjectStatisticsResponse findStatistics(Long subjectId);
+    void evictStatistics(Long subjectId);
 }
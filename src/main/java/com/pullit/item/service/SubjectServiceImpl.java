@@ -1,26 +1,124 @@
 package com.pullit.item.service;
 
+import com.pullit.chapter.dto.response.ChapterLevelCount;
+import com.pullit.chapter.event.ChapterChangedEvent;
+import com.pullit.chapter.repository.ChapterRepository;
+import com.pullit.common.cache.service.CacheService;
+import com.pullit.common.cache.warmup.CacheWarmer;
+import com.pullit.item.dao.ItemMetadataRepository;
 import com.pullit.item.dao.SubjectRepository;
+import com.pullit.item.dto.response.ItemDifficultyCount;
 import com.pullit.item.dto.response.SubjectResponse;
+import com.pullit.item.dto.response.SubjectStatisticsResponse;
 import com.pullit.item.entity.Subject;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.pullit.common.constants.CacheConstants.*;
 
 @RequiredArgsConstructor
 @Service
-public class SubjectServiceImpl implements SubjectService {
+public class SubjectServiceImpl implements SubjectService, CacheWarmer {
     private final SubjectRepository subjectRepository;
+    private final ChapterRepository chapterRepository;
+    private final ItemMetadataRepository itemMetadataRepository;
+    private final CacheService cacheService;
+
     @Override
     public List<Subject> findByAll() {
         return subjectRepository.findAll();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<SubjectResponse> findAllSubjectsOnly() {
-        return subjectRepository.findAll().stream()
-                .map(SubjectResponse::from)
-                .toList();
+        return cacheService.getOrElse(KEY_SUBJECT_ALL, REFERENCE_TTL_SECONDS, TimeUnit.SECONDS,
+                this::loadAllSubjects, List.class);
+    }
+
+    /**
+     * 전체 교과서 통계 (단원/문항 그룹 집계 쿼리 2회)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SubjectStatisticsResponse> findAllStatistics() {
+        return cacheService.getOrElse(KEY_SUBJECT_STATS_ALL, LONG_TTL_SECONDS, TimeUnit.SECONDS,
+                this::loadAllStatistics, List.class);
+    }
+
+    @Override
+    public SubjectStatisticsResponse findStatistics(Long subjectId) {
+        return cacheService.getOrElse(KEY_PREFIX_SUBJECT_STATS + subjectId, LONG_TTL_SECONDS, TimeUnit.SECONDS,
+                () -> loadStatistics(subjectId), SubjectStatisticsResponse.class);
+    }
+
+    @Override
+    public void evictStatistics(Long subjectId) {
+        if (subjectId != null) {
+            cacheService.evict(KEY_PREFIX_SUBJECT_STATS + subjectId);
+        }
+        cacheService.evict(KEY_SUBJECT_STATS_ALL);
+    }
+
+    /**
+     * 단원 변경 시 단원 수 통계 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChapterChanged(ChapterChangedEvent event) {
+        if (event.isAllSubjects()) {
+            cacheService.evictByPattern(KEY_PREFIX_SUBJECT_STATS + KEY_WILDCARD);
+        } else {
+            evictStatistics(event.subjectId());
+        }
+    }
+
+    @Override
+    public String warmUpName() {
+        return "subjects";
+    }
+
+    @Override
+    public Map<String, Supplier<?>> warmUpLoaders() {
+        return Map.of(KEY_SUBJECT_ALL, this::loadAllSubjects);
+    }
+
+    @Override
+    public long warmUpTtlSeconds() {
+        return REFERENCE_TTL_SECONDS;
+    }
+
+    // 캐시 직렬화 시 타입 정보가 남도록 불변 리스트 대신 ArrayList로 반환
+    private List<SubjectResponse> loadAllSubjects() {
+        return new ArrayList<>(subjectRepository.findAllResponses());
+    }
+
+    private List<SubjectStatisticsResponse> loadAllStatistics() {
+        Map<Long, ChapterLevelCount> chapterCounts = chapterRepository.countLevelsGroupBySubject().stream()
+                .collect(Collectors.toMap(ChapterLevelCount::getSubjectId, Function.identity()));
+        Map<Long, List<ItemDifficultyCount>> itemCounts = itemMetadataRepository.countGroupBySubjectAndDifficulty()
+                .stream()
+                .collect(Collectors.groupingBy(ItemDifficultyCount::getSubjectId));
+
+        Set<Long> subjectIds = new TreeSet<>(chapterCounts.keySet());
+        subjectIds.addAll(itemCounts.keySet());
+
+        List<SubjectStatisticsResponse> result = new ArrayList<>(subjectIds.size());
+        for (Long subjectId : subjectIds) {
+            result.add(SubjectStatisticsResponse.of(subjectId, chapterCounts.get(subjectId), itemCounts.get(subjectId)));
+        }
+        return result;
+    }
+
+    private SubjectStatisticsResponse loadStatistics(Long subjectId) {
+        return SubjectStatisticsResponse.of(subjectId,
+                chapterRepository.countLevelsBySubjectId(subjectId).orElse(null),
+                itemMetadataRepository.countGroupByDifficulty(subjectId));
     }
 }
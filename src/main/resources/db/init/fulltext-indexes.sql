@@ -0,0 +1,15 @@
+-- JPA로 선언할 수 없는 FULLTEXT 인덱스 (spring.sql.init, Hibernate 스키마 생성 이후 매 기동 시 실행)
+-- Flyway는 Hibernate보다 먼저 실행되므로 신규 DB에서는 V2__add_exam_name_fulltext.sql이 테이블이 없어 건너뛴다.
+-- 이 스크립트가 스키마 생성 후 같은 인덱스를 만들며, 이미 있으면 아무것도 하지 않는다.
+
+-- 시험지 이름 자동완성 (ngram 파서, ngram_token_size 기본값 2)
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'exams') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'exams' AND index_name = 'ft_exams_exam_name') = 0,
+    'CREATE FULLTEXT INDEX ft_exams_exam_name ON exams (exam_name) WITH PARSER ngram',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,100 @@
+-- 조회 쿼리용 인덱스
+-- 기존 DB(ddl-auto로 생성된 스키마)에 적용되므로 테이블이 있고 인덱스가 없을 때만 생성한다.
+-- 신규 로컬 DB는 Flyway가 먼저 실행되어 테이블이 없으므로 건너뛰고,
+-- 엔티티 @Table(indexes)에 같은 이름으로 선언된 인덱스를 Hibernate가 생성한다.
+
+-- 단원 트리/키셋 목록 (정렬까지 인덱스로 처리)
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'chapters') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'chapters' AND index_name = 'idx_chapters_subject_hierarchy') = 0,
+    'CREATE INDEX idx_chapters_subject_hierarchy ON chapters (subject_id, large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 교과서/단원별 문항 조회
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'item_metadata') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'item_metadata' AND index_name = 'idx_item_metadata_subject_chapter') = 0,
+    'CREATE INDEX idx_item_metadata_subject_chapter ON item_metadata (subject_id, large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 교과서별 난이도/문제형식 필터
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'item_metadata') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'item_metadata' AND index_name = 'idx_item_metadata_subject_difficulty') = 0,
+    'CREATE INDEX idx_item_metadata_subject_difficulty ON item_metadata (subject_id, difficulty_code, question_form_code)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 공개 범위별 시험지 목록 (최근 수정순)
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'exams') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'exams' AND index_name = 'idx_exams_visibility_updated') = 0,
+    'CREATE INDEX idx_exams_visibility_updated ON exams (visibility, updated_date)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 내 시험지 목록
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'exams') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'exams' AND index_name = 'idx_exams_created_by_updated') = 0,
+    'CREATE INDEX idx_exams_created_by_updated ON exams (created_by, updated_date)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 시험지명 검색 정렬
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'exams') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'exams' AND index_name = 'idx_exams_updated') = 0,
+    'CREATE INDEX idx_exams_updated ON exams (updated_date)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 시험지 문항 순서 조회
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'exam_items') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'exam_items' AND index_name = 'idx_exam_items_exam_item_no') = 0,
+    'CREATE INDEX idx_exam_items_exam_item_no ON exam_items (exam_id, item_no)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 시험지별 파일 이력
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'file_history') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'file_history' AND index_name = 'idx_file_history_exam_created') = 0,
+    'CREATE INDEX idx_file_history_exam_created ON file_history (exam_id, created_date)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
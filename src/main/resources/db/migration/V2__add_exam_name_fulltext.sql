@@ -0,0 +1,14 @@
+-- 시험지 이름 자동완성용 FULLTEXT 인덱스 (ngram 파서, ngram_token_size 기본값 2)
+-- LIKE '%q%'는 인덱스를 쓸 수 없어 키 입력마다 exams 전체를 읽으므로 MATCH ... AGAINST로 대체한다.
+-- 기존 DB에 적용하며, 테이블이 없는 신규 DB에서는 Hibernate 스키마 생성 후
+-- db/init/fulltext-indexes.sql(spring.sql.init)이 같은 인덱스를 만든다.
+SET @ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = 'exams') = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+      WHERE table_schema = DATABASE() AND table_name = 'exams' AND index_name = 'ft_exams_exam_name') = 0,
+    'CREATE FULLTEXT INDEX ft_exams_exam_name ON exams (exam_name) WITH PARSER ngram',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,56 @@
+package com.pullit.chapter.index;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단원 변경 시 교과서 단위 인덱스 재구성과 노드 간 알림
+ */
+class ChapterIndexSynchronizerTest {
+
+    private final ChapterIndexHolder chapterIndexHolder = mock(ChapterIndexHolder.class);
+    private final ChapterSearchIndex chapterSearchIndex = mock(ChapterSearchIndex.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final ChapterIndexSynchronizer synchronizer = new ChapterIndexSynchronizer(chapterIndexHolder,
+            chapterSearchIndex, stringRedisTemplate, mock(RedisMessageListenerContainer.class));
+
+    @Test
+    void changedRebuildsOnlyThatSubjectAndBroadcasts() {
+        synchronizer.changed(3L);
+
+        verify(chapterIndexHolder).rebuild(3L);
+        verify(chapterSearchIndex).refresh(3L);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(ChapterIndexSynchronizer.CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith("|3");
+
+        // 자기 노드가 보낸 알림은 다시 반영하지 않음
+        synchronizer.onMessage(message(message.getValue()), null);
+        verify(chapterIndexHolder, times(1)).rebuild(3L);
+    }
+
+    @Test
+    void otherNodeMessageRebuildsSubjectOrAll() {
+        synchronizer.onMessage(message("other-node|5"), null);
+        synchronizer.onMessage(message("other-node|*"), null);
+
+        verify(chapterIndexHolder).rebuild(5L);
+        verify(chapterSearchIndex).refresh(5L);
+        verify(chapterIndexHolder).rebuild(null);
+        verify(chapterSearchIndex).refresh(null);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(ChapterIndexSynchronizer.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,212 @@
+package com.pullit.chapter.index;
+
+import com.pullit.chapter.dto.response.LargeNode;
+import com.pullit.chapter.dto.response.MediumNode;
+import com.pullit.chapter.dto.response.SmallNode;
+import com.pullit.chapter.dto.response.TopicNode;
+import com.pullit.chapter.repository.ChapterJdbcRepository.ChapterIndexRow;
+import com.pullit.chapter.repository.ChapterJdbcRepository.ChapterTreeRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChapterIndex가 엔티티 기반 트리 조립(ChapterServiceImpl.buildTree 이전 구현)과 같은 결과를 내는지 확인
+ */
+class ChapterIndexTest {
+
+    private static final long SUBJECT_ID = 1L;
+    private static final long OTHER_SUBJECT_ID = 2L;
+
+    @Test
+    void treeMatchesLegacyBuilder() {
+        List<ChapterIndexRow> rows = List.of(
+                row(10, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 111L, "덧셈", 1111L, "받아올림"),
+                row(11, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 111L, "덧셈", 1112L, "세 수의 덧셈"),
+                row(12, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 112L, "뺄셈", null, null),
+                row(13, SUBJECT_ID, 1L, "수와 연산", 12L, "분수", null, null, null, null),
+                row(14, SUBJECT_ID, 2L, "도형", 21L, "평면도형", 211L, "삼각형", 2111L, "넓이"),
+                row(15, SUBJECT_ID, 3L, "측정", null, null, null, null, null, null));
+
+        ChapterIndex index = build(rows);
+
+        assertThat(index.tree(SUBJECT_ID))
+                .usingRecursiveComparison()
+                .isEqualTo(legacyTree(rows));
+    }
+
+    @Test
+    void treeIsSeparatedBySubject() {
+        List<ChapterIndexRow> rows = List.of(
+                row(10, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 111L, "덧셈", 1111L, "받아올림"),
+                row(20, OTHER_SUBJECT_ID, 1L, "수와 연산", 11L, "정수", null, null, null, null));
+
+        ChapterIndex index = build(rows);
+
+        assertThat(index.tree(SUBJECT_ID))
+                .usingRecursiveComparison()
+                .isEqualTo(legacyTree(rows.subList(0, 1)));
+        assertThat(index.tree(OTHER_SUBJECT_ID))
+                .usingRecursiveComparison()
+                .isEqualTo(legacyTree(rows.subList(1, 2)));
+        assertThat(index.tree(3L)).isEmpty();
+    }
+
+    @Test
+    void rowsWithoutLargeChapterAreSkipped() {
+        List<ChapterIndexRow> rows = List.of(
+                row(10, SUBJECT_ID, null, null, null, null, null, null, null, null),
+                row(11, SUBJECT_ID, 1L, "수와 연산", null, null, null, null, null, null));
+
+        ChapterIndex index = build(rows);
+
+        assertThat(index.tree(SUBJECT_ID))
+                .usingRecursiveComparison()
+                .isEqualTo(legacyTree(rows));
+        assertThat(index.contains(10)).isFalse();
+        assertThat(index.depth(11)).isEqualTo(ChapterIndex.DEPTH_LARGE);
+    }
+
+    @Test
+    void duplicateTopicCodesCollapseIntoOneNode() {
+        // 같은 주제 코드가 두 행에 있으면 이전 구현은 주제를 두 번 넣었지만 인덱스는 한 노드로 합친다
+        List<ChapterIndexRow> rows = List.of(
+                row(10, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 111L, "덧셈", 1111L, "받아올림"),
+                row(11, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 111L, "덧셈", 1111L, "받아올림"),
+                row(12, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 111L, "덧셈", 1112L, "세 수의 덧셈"));
+
+        ChapterIndex index = build(rows);
+
+        List<TopicNode> topics = index.tree(SUBJECT_ID).get(0).getChildren().get(0).getChildren().get(0).getTopics();
+        assertThat(topics).extracting(TopicNode::getId).containsExactly(1111L, 1112L);
+        assertThat(index.nodeCount()).isEqualTo(5);
+        assertThat(index.path(10)).isEqualTo(index.path(11)).isEqualTo("수와 연산 > 자연수 > 덧셈 > 받아올림");
+        assertThat(index.chapterIdsOf(SUBJECT_ID)).containsExactly(10L, 11L, 12L);
+    }
+
+    @Test
+    void pathDepthAndAncestorsFollowHierarchy() {
+        ChapterIndex index = build(List.of(
+                row(10, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 111L, "덧셈", 1111L, "받아올림"),
+                row(12, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", 112L, "뺄셈", null, null)));
+
+        assertThat(index.path(12)).isEqualTo("수와 연산 > 자연수 > 뺄셈");
+        assertThat(index.depth(10)).isEqualTo(ChapterIndex.DEPTH_TOPIC);
+        assertThat(index.depth(12)).isEqualTo(ChapterIndex.DEPTH_SMALL);
+        assertThat(index.ancestorCodes(10)).containsExactly(1L, 11L, 111L, 1111L);
+        assertThat(index.ancestorCode(10, ChapterIndex.DEPTH_MEDIUM)).isEqualTo(11L);
+        assertThat(index.ancestorCode(12, ChapterIndex.DEPTH_TOPIC)).isNull();
+        assertThat(index.path(99)).isNull();
+        assertThat(index.nameCount()).isEqualTo(5);
+    }
+
+    @Test
+    void chapterIdsAreKeptPerSubject() {
+        ChapterIndex index = build(List.of(
+                row(30, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", null, null, null, null),
+                row(10, SUBJECT_ID, 1L, "수와 연산", 12L, "분수", null, null, null, null),
+                row(20, OTHER_SUBJECT_ID, 1L, "수와 연산", 11L, "정수", null, null, null, null)));
+
+        assertThat(index.chapterIdsOf(SUBJECT_ID)).containsExactly(10L, 30L);
+        assertThat(index.chapterIdsOf(OTHER_SUBJECT_ID)).containsExactly(20L);
+        assertThat(index.chapterIdsOf(3L)).isEmpty();
+    }
+
+    @Test
+    void withSubjectReplacesOnlyThatSubject() {
+        List<ChapterIndexRow> first = List.of(
+                row(10, SUBJECT_ID, 1L, "수와 연산", 11L, "자연수", null, null, null, null));
+        List<ChapterIndexRow> second = List.of(
+                row(20, OTHER_SUBJECT_ID, 2L, "도형", 21L, "평면도형", 211L, "삼각형", null, null));
+        List<ChapterIndexRow> changedSecond = List.of(
+                row(20, OTHER_SUBJECT_ID, 2L, "도형", 21L, "입체도형", null, null, null, null),
+                row(21, OTHER_SUBJECT_ID, 3L, "측정", null, null, null, null, null, null));
+        List<ChapterIndexRow> third = List.of(
+                row(30, 3L, 5L, "함수", 51L, "일차함수", 511L, "그래프", 5111L, "기울기"));
+
+        List<ChapterIndexRow> all = new ArrayList<>(first);
+        all.addAll(second);
+        all.addAll(third);
+        List<ChapterIndexRow> expected = new ArrayList<>(first);
+        expected.addAll(changedSecond);
+        expected.addAll(third);
+
+        ChapterIndex replaced = build(all).withSubject(OTHER_SUBJECT_ID, build(changedSecond));
+
+        assertThat(replaced).usingRecursiveComparison().isEqualTo(build(expected));
+        assertThat(replaced.path(20)).isEqualTo("도형 > 입체도형");
+        assertThat(replaced.path(30)).isEqualTo("함수 > 일차함수 > 그래프 > 기울기");
+
+        ChapterIndex removed = build(all).withSubject(OTHER_SUBJECT_ID, ChapterIndex.empty());
+        assertThat(removed.subjectIds()).containsExactly(SUBJECT_ID, 3L);
+        assertThat(removed.contains(20)).isFalse();
+
+        ChapterIndex added = build(first).withSubject(3L, build(third));
+        assertThat(added).usingRecursiveComparison().isEqualTo(build(concat(first, third)));
+    }
+
+    private static List<ChapterIndexRow> concat(List<ChapterIndexRow> a, List<ChapterIndexRow> b) {
+        List<ChapterIndexRow> rows = new ArrayList<>(a);
+        rows.addAll(b);
+        return rows;
+    }
+
+    private static ChapterIndex build(List<ChapterIndexRow> rows) {
+        ChapterIndex.Builder builder = ChapterIndex.builder();
+        rows.forEach(builder::add);
+        return builder.build();
+    }
+
+    private static ChapterIndexRow row(long chapterId, long subjectId,
+                                       Long largeId, String largeName,
+                                       Long mediumId, String mediumName,
+                                       Long smallId, String smallName,
+                                       Long topicId, String topicName) {
+        return new ChapterIndexRow(chapterId, subjectId, new ChapterTreeRow(
+                largeId, largeName, mediumId, mediumName, smallId, smallName, topicId, topicName));
+    }
+
+    /**
+     * ChapterIndex 도입 전 ChapterServiceImpl.buildTree 조립 방식 (엔티티 대신 행 사용)
+     */
+    private static List<LargeNode> legacyTree(List<ChapterIndexRow> rows) {
+        Map<Long, LargeNode> largeMap = new LinkedHashMap<>();
+        Map<Long, MediumNode> mediumMap = new LinkedHashMap<>();
+        Map<Long, SmallNode> smallMap = new LinkedHashMap<>();
+
+        for (ChapterIndexRow row : rows) {
+            ChapterTreeRow c = row.tree();
+            if (c.largeId() == null) {
+                continue;
+            }
+            LargeNode l = largeMap.computeIfAbsent(c.largeId(), id -> LargeNode.builder()
+                    .id(id).name(c.largeName()).children(new ArrayList<>()).build());
+
+            if (c.mediumId() != null) {
+                MediumNode m = mediumMap.get(c.mediumId());
+                if (m == null) {
+                    m = MediumNode.builder().id(c.mediumId()).name(c.mediumName()).children(new ArrayList<>()).build();
+                    l.getChildren().add(m);
+                    mediumMap.put(c.mediumId(), m);
+                }
+                if (c.smallId() != null) {
+                    SmallNode s = smallMap.get(c.smallId());
+                    if (s == null) {
+                        s = SmallNode.builder().id(c.smallId()).name(c.smallName()).topics(new ArrayList<>()).build();
+                        m.getChildren().add(s);
+                        smallMap.put(c.smallId(), s);
+                    }
+                    if (c.topicId() != null) {
+                        s.getTopics().add(TopicNode.builder().id(c.topicId()).name(c.topicName()).build());
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(largeMap.values());
+    }
+}
@@ -0,0 +1,105 @@
+package com.pullit.chapter.index;
+
+import com.pullit.chapter.repository.ChapterJdbcRepository.ChapterIndexRow;
+import com.pullit.chapter.repository.ChapterJdbcRepository.ChapterTreeRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChapterPathSegmentTest {
+
+    private static final long SUBJECT_ID = 1L;
+
+    @Test
+    void findsHangulSubstringsThroughNegativeBigramKeys() {
+        // 한글 첫 글자의 2-gram 키는 최상위 비트가 켜져 음수가 된다
+        ChapterPathSegment segment = segment(
+                "수와 연산 > 자연수 > 덧셈",
+                "도형 > 평면도형 > 삼각형",
+                "수와 연산 > 분수",
+                "Chapter 1 수학");
+
+        assertThat(search(segment, "연산", 10)).containsExactly(0L, 2L);
+        assertThat(search(segment, "연산 분수", 10)).containsExactly(2L);
+        assertThat(search(segment, "평면도형", 10)).containsExactly(1L);
+        assertThat(search(segment, "1수", 10)).containsExactly(3L);
+        assertThat(search(segment, "CHAPTER", 10)).containsExactly(3L);
+        assertThat(search(segment, "곱셈", 10)).isEmpty();
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        ChapterPathSegment segment = segment("수와 연산 > 덧셈", "도형 > 삼각형", "수와 연산 > 분수");
+
+        assertThat(search(segment, "분", 10)).containsExactly(2L);
+        assertThat(search(segment, "수", 10)).containsExactly(0L, 2L);
+        assertThat(search(segment, "곱", 10)).isEmpty();
+    }
+
+    @Test
+    void bigramCandidatesAreVerifiedAgainstPath() {
+        // "가나나다"는 "가나", "나다"를 모두 포함하지만 "가나다"는 포함하지 않음
+        ChapterPathSegment segment = segment("가나 나다", "가나다");
+
+        assertThat(search(segment, "가나다", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void deltaEncodedPostingsMatchBruteForce() {
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            paths.add((i % 3 == 0 ? "확률과 통계 > " : "미적분 > ") + "단원" + i + (i % 7 == 0 ? " > 경우의 수" : ""));
+        }
+        ChapterPathSegment segment = segment(paths.toArray(new String[0]));
+
+        for (String query : List.of("확률", "경우의 수", "통계경우", "단원1", "분")) {
+            String normalized = ChapterPathSegment.normalize(query);
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < paths.size(); i++) {
+                if (ChapterPathSegment.normalize(paths.get(i)).contains(normalized)) {
+                    expected.add((long) i);
+                }
+            }
+            assertThat(search(segment, query, Integer.MAX_VALUE)).as(query).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void stopsAtLimit() {
+        ChapterPathSegment segment = segment("수와 연산 > 덧셈", "수와 연산 > 뺄셈", "수와 연산 > 곱셈", "수와 연산 > 나눗셈");
+
+        assertThat(search(segment, "연산", 2)).containsExactly(0L, 1L);
+        assertThat(search(segment, "셈", 3)).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    void emptyQueryFindsNothing() {
+        ChapterPathSegment segment = segment("수와 연산");
+
+        assertThat(search(segment, " > ", 10)).isEmpty();
+    }
+
+    /**
+     * 경로마다 대단원 하나짜리 단원을 만들어 세그먼트 구성 (단원 ID = 순번)
+     */
+    private static ChapterPathSegment segment(String... paths) {
+        ChapterIndex.Builder builder = ChapterIndex.builder();
+        for (int i = 0; i < paths.length; i++) {
+            builder.add(new ChapterIndexRow(i, SUBJECT_ID,
+                    new ChapterTreeRow((long) i, paths[i], null, null, null, null, null, null)));
+        }
+        return ChapterPathSegment.build(builder.build(), SUBJECT_ID);
+    }
+
+    private static List<Long> search(ChapterPathSegment segment, String query, int limit) {
+        List<Long> found = new ArrayList<>();
+        segment.search(ChapterPathSegment.normalize(query), doc -> {
+            found.add(segment.chapterIdAt(doc));
+            return found.size() < limit;
+        });
+        return found;
+    }
+}
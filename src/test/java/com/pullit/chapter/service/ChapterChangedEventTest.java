@@ -0,0 +1,73 @@
+package com.pullit.chapter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pullit.chapter.index.ChapterIndexHolder;
+import com.pullit.chapter.index.ChapterIndexSynchronizer;
+import com.pullit.chapter.index.ChapterSearchIndex;
+import com.pullit.chapter.repository.ChapterRepository;
+import com.pullit.common.cache.service.CacheService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+
+import static com.pullit.common.constants.CacheConstants.*;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 단원 변경 알림 -> ChapterChangedEvent -> 캐시 무효화/인덱스 재구성
+ * (트랜잭션 밖에서 발행하면 fallbackExecution으로 즉시 처리)
+ */
+@SpringJUnitConfig(ChapterChangedEventTest.Config.class)
+class ChapterChangedEventTest {
+
+    @Configuration
+    @Import(ChapterServiceImpl.class)
+    static class Config {
+        @Bean
+        static TransactionalEventListenerFactory transactionalEventListenerFactory() {
+            return new TransactionalEventListenerFactory();
+        }
+    }
+
+    @MockitoBean
+    private ChapterRepository chapterRepository;
+    @MockitoBean
+    private CacheService cacheService;
+    @MockitoBean
+    private ObjectMapper objectMapper;
+    @MockitoBean
+    private ChapterTreeStreamWriter chapterTreeStreamWriter;
+    @MockitoBean
+    private ChapterIndexHolder chapterIndexHolder;
+    @MockitoBean
+    private ChapterIndexSynchronizer chapterIndexSynchronizer;
+    @MockitoBean
+    private ChapterSearchIndex chapterSearchIndex;
+
+    @Autowired
+    private ChapterService chapterService;
+
+    @Test
+    void subjectChangeEvictsTreeAndRebuildsIndex() {
+        chapterService.notifyChapterChanged(3L);
+
+        verify(chapterIndexSynchronizer).changed(3L);
+        verify(cacheService).evict(KEY_PREFIX_CHAPTER_TREE + 3L);
+        verify(cacheService).evict(KEY_PREFIX_CHAPTER_BY_SUBJECT + 3L);
+        verify(cacheService).evictByTag(TAG_CHAPTER_RESPONSE);
+    }
+
+    @Test
+    void allSubjectsChangeEvictsEveryChapterKey() {
+        chapterService.notifyChapterChanged(null);
+
+        verify(chapterIndexSynchronizer).changed(null);
+        verify(cacheService).evictByPattern(KEY_PREFIX_CHAPTER + KEY_WILDCARD);
+        verify(cacheService).evictByPattern(KEY_PREFIX_RESPONSE + "/api/chapter" + KEY_WILDCARD);
+    }
+}
@@ -0,0 +1,28 @@
+package com.pullit.common.cache.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static com.pullit.common.constants.CacheConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메트릭 prefix 태그 추출 (선언된 KEY_PREFIX_* 중 가장 긴 것)
+ */
+class CacheMetricsTest {
+
+    @Test
+    void longestDeclaredPrefixWins() {
+        assertThat(CacheMetrics.prefixOf(KEY_PREFIX_CHAPTER_TREE + "3")).isEqualTo(KEY_PREFIX_CHAPTER_TREE);
+        assertThat(CacheMetrics.prefixOf(KEY_PREFIX_CHAPTER_BY_SUBJECT + "3")).isEqualTo(KEY_PREFIX_CHAPTER_BY_SUBJECT);
+        assertThat(CacheMetrics.prefixOf(KEY_PREFIX_SUBJECT_STATS + "all")).isEqualTo(KEY_PREFIX_SUBJECT_STATS);
+        assertThat(CacheMetrics.prefixOf(KEY_PREFIX_EXAM_PDF_JOB + "abc")).isEqualTo(KEY_PREFIX_EXAM_PDF_JOB);
+        assertThat(CacheMetrics.prefixOf(KEY_SUBJECT_ALL)).isEqualTo(KEY_PREFIX_SUBJECT);
+    }
+
+    @Test
+    void undeclaredKeyFallsBackToFirstSegment() {
+        assertThat(CacheMetrics.prefixOf("users::1")).isEqualTo("users:");
+        assertThat(CacheMetrics.prefixOf("plain")).isEqualTo("none");
+        assertThat(CacheMetrics.prefixOf(null)).isEqualTo("none");
+    }
+}
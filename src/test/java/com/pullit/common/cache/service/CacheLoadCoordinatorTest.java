@@ -0,0 +1,182 @@
+package com.pullit.common.cache.service;
+
+import com.pullit.common.config.properties.CacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키별 single-flight와 XFetch 조기 갱신 동시성 테스트 (Redis 락 미사용 경로)
+ */
+class CacheLoadCoordinatorTest {
+
+    private static final int THREADS = 16;
+
+    private final CacheLoadCoordinator coordinator = new CacheLoadCoordinator(null, new CacheProperties());
+    private final ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        coordinator.shutdown();
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(callers.submit(() -> coordinator.loadOnce("key", () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(release);
+            return "value";
+        })));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 적재 중에 들어온 요청은 loader를 실행하지 않고 결과를 기다림
+        for (int i = 1; i < THREADS; i++) {
+            results.add(callers.submit(() -> coordinator.loadOnce("key", () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void differentKeysLoadIndependently() {
+        assertThat((String) coordinator.loadOnce("a", () -> "A")).isEqualTo("A");
+        assertThat((String) coordinator.loadOnce("b", () -> "B")).isEqualTo("B");
+        // 적재가 끝난 키는 다시 적재
+        assertThat((String) coordinator.loadOnce("a", () -> "A2")).isEqualTo("A2");
+    }
+
+    @Test
+    void loaderFailureIsPropagatedToWaiters() throws Exception {
+        assertFailurePropagated(new IllegalStateException("load failed"));
+    }
+
+    @Test
+    void loaderErrorDoesNotLeaveWaitersHanging() throws Exception {
+        assertFailurePropagated(new StackOverflowError("load failed"));
+    }
+
+    @Test
+    void refreshAsyncRunsOncePerKeyWhileInProgress() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        coordinator.refreshAsync("key", () -> {
+            runs.incrementAndGet();
+            await(release);
+            done.countDown();
+        });
+        for (int i = 0; i < 10; i++) {
+            coordinator.refreshAsync("key", runs::incrementAndGet);
+        }
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs).hasValue(1);
+
+        // 갱신이 끝나면 같은 키를 다시 갱신할 수 있고, 실패(Error 포함)해도 다음 갱신을 막지 않음
+        CountDownLatch failed = new CountDownLatch(1);
+        coordinator.refreshAsync("key", () -> {
+            failed.countDown();
+            throw new AssertionError("refresh failed");
+        });
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        CountDownLatch again = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (again.getCount() > 0 && System.nanoTime() < deadline) {
+            coordinator.refreshAsync("key", again::countDown);
+            again.await(10, TimeUnit.MILLISECONDS);
+        }
+        assertThat(again.getCount()).isZero();
+    }
+
+    @Test
+    void xfetchRefreshesMoreOftenNearExpiry() {
+        int trials = 10_000;
+        int nearExpiry = 0;
+        int farFromExpiry = 0;
+        for (int i = 0; i < trials; i++) {
+            if (coordinator.shouldRefreshEarly(100, 50)) {
+                nearExpiry++;
+            }
+            if (coordinator.shouldRefreshEarly(100, 60_000)) {
+                farFromExpiry++;
+            }
+        }
+        // P(refresh) = exp(-ttl / (delta * beta)) : 50ms 남으면 약 61%, 60초 남으면 사실상 0
+        assertThat(nearExpiry).isBetween(trials / 2, trials * 3 / 4);
+        assertThat(farFromExpiry).isZero();
+    }
+
+    @Test
+    void xfetchSkipsKeysWithoutLoadTimeOrExpiry() {
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(coordinator.shouldRefreshEarly(0, 1)).isFalse();
+            assertThat(coordinator.shouldRefreshEarly(1_000, -1)).isFalse();
+        }
+    }
+
+    private void assertFailurePropagated(Throwable failure) throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> owner = callers.submit(() -> coordinator.loadOnce("key", () -> {
+            loaderStarted.countDown();
+            await(release);
+            throw sneaky(failure);
+        }));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<Object>> waiters = new ArrayList<>();
+        for (int i = 1; i < THREADS; i++) {
+            waiters.add(callers.submit(() -> coordinator.loadOnce("key", () -> "other")));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> owner.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        for (Future<Object> waiter : waiters) {
+            // 대기 중이던 요청은 같은 실패를 받고, 늦게 도착해 직접 적재한 요청은 값을 받음
+            try {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("other");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isSameAs(failure);
+            }
+        }
+        // 실패 후 키가 정리되어 다음 요청은 새로 적재
+        assertThat((Object) coordinator.loadOnce("key", () -> "retry")).isEqualTo("retry");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneaky(Throwable t) throws E {
+        throw (E) t;
+    }
+}
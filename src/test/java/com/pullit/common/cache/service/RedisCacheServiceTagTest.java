@@ -0,0 +1,111 @@
+package com.pullit.common.cache.service;
+
+import com.pullit.common.cache.metrics.CacheMetrics;
+import com.pullit.common.config.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.pullit.common.constants.CacheConstants.KEY_PREFIX_TAG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 태그 인덱스 TTL과 태그 단위 삭제
+ * Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisCacheServiceTagTest {
+
+    private static final String TAG = "test-tag";
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisCacheService cacheService;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getEviction().setUnlinkBatchSize(2);
+        cacheService = new RedisCacheService(redisTemplate, stringRedisTemplate,
+                new CacheLoadCoordinator(stringRedisTemplate, cacheProperties), cacheProperties,
+                new CacheMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void tagSetExpiresWithLongestLivedMember() {
+        cacheService.tag("a", 60, TimeUnit.SECONDS, TAG);
+        assertThat(ttlSeconds()).isBetween(55L, 60L);
+
+        // 더 긴 TTL의 키가 등록되면 연장
+        cacheService.tag("b", 1, TimeUnit.HOURS, TAG);
+        assertThat(ttlSeconds()).isGreaterThan(3500L);
+
+        // 더 짧은 TTL의 키가 등록돼도 줄어들지 않음
+        cacheService.tag("c", 10, TimeUnit.SECONDS, TAG);
+        assertThat(ttlSeconds()).isGreaterThan(3500L);
+        assertThat(stringRedisTemplate.opsForSet().members(KEY_PREFIX_TAG + TAG)).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void evictByTagDeletesOnlyTaggedKeysInBatches() {
+        for (String key : List.of("response:1", "response:2", "response:3")) {
+            cacheService.put(key, "value", 1, TimeUnit.HOURS);
+            cacheService.tag(key, 1, TimeUnit.HOURS, TAG);
+        }
+        cacheService.put("response:other", "value", 1, TimeUnit.HOURS);
+
+        List<List<String>> batches = new ArrayList<>();
+        long deleted = cacheService.evictByTag(TAG, batches::add);
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.stream().flatMap(List::stream))
+                .containsExactlyInAnyOrder("response:1", "response:2", "response:3");
+        assertThat(cacheService.exists("response:1")).isFalse();
+        assertThat(cacheService.exists("response:other")).isTrue();
+        assertThat(stringRedisTemplate.keys(KEY_PREFIX_TAG + "*")).isEmpty();
+
+        // 없는 태그는 아무것도 지우지 않음
+        assertThat(cacheService.evictByTag(TAG)).isZero();
+    }
+
+    private long ttlSeconds() {
+        Long ttl = stringRedisTemplate.getExpire(KEY_PREFIX_TAG + TAG, TimeUnit.SECONDS);
+        return ttl != null ? ttl : -2;
+    }
+}
@@ -0,0 +1,155 @@
+package com.pullit.common.db;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 조회 쿼리의 실행 계획 회귀 테스트
+ * V1 마이그레이션 인덱스를 적용한 MySQL에서 EXPLAIN하여 전체 스캔(type=ALL)이나
+ * 인덱스로 처리되어야 할 정렬의 filesort가 생기면 실패한다.
+ * 신규 DB에서 스키마 생성 후 FULLTEXT 인덱스가 만들어지는지도 확인한다.
+ * Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryIndexExplainTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/explain/schema.sql")).execute(dataSource);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/explain/data.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("단원 트리 (ChapterRepository, ChapterJdbcRepository)",
+                        "SELECT * FROM chapters WHERE subject_id = 3 "
+                                + "ORDER BY large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id",
+                        "idx_chapters_subject_hierarchy", true),
+                Arguments.of("단원 키셋 페이지 (ChapterRepositoryImpl.findResponsesAfter)",
+                        "SELECT * FROM chapters WHERE subject_id > 3 "
+                                + "OR (subject_id = 3 AND large_chapter_id > 2) "
+                                + "OR (subject_id = 3 AND large_chapter_id = 2 AND medium_chapter_id > 10) "
+                                + "ORDER BY subject_id, large_chapter_id, medium_chapter_id, small_chapter_id, "
+                                + "topic_chapter_id, id LIMIT 21",
+                        "idx_chapters_subject_hierarchy", true),
+                Arguments.of("교과서/단원별 문항",
+                        "SELECT item_id FROM item_metadata WHERE subject_id = 3 AND large_chapter_id = 3 "
+                                + "AND medium_chapter_id = 3",
+                        "idx_item_metadata_subject_chapter", false),
+                Arguments.of("공개 범위별 시험지 목록 (ExamRepository.findAllByVisibility)",
+                        "SELECT * FROM exams WHERE visibility = 'PUBLIC' ORDER BY updated_date DESC LIMIT 20",
+                        "idx_exams_visibility_updated", true),
+                Arguments.of("내 시험지 목록",
+                        "SELECT * FROM exams WHERE created_by = 7 ORDER BY updated_date DESC LIMIT 20",
+                        "idx_exams_created_by_updated", true),
+                Arguments.of("볼 수 있는 시험지 - 본인 시험지 키셋 (ExamRepositoryImpl.findAccessibleKeys)",
+                        "SELECT exam_id, updated_date FROM exams WHERE created_by = 7 "
+                                + "ORDER BY updated_date DESC, exam_id DESC LIMIT 21",
+                        "idx_exams_created_by_updated", true),
+                Arguments.of("볼 수 있는 시험지 - 전체 공개 키셋 (ExamRepositoryImpl.findAccessibleKeys)",
+                        "SELECT exam_id, updated_date FROM exams WHERE visibility = 'PUBLIC' "
+                                + "ORDER BY updated_date DESC, exam_id DESC LIMIT 21",
+                        "idx_exams_visibility_updated", true),
+                Arguments.of("시험지 이름 자동완성 (ExamRepository.findExamNamesByFulltext)",
+                        "SELECT exam_name FROM exams WHERE MATCH(exam_name) AGAINST('+\"시험\"' IN BOOLEAN MODE) "
+                                + "AND (visibility = 'PUBLIC' OR created_by = 7) GROUP BY exam_name ORDER BY MAX(updated_date) DESC LIMIT 10",
+                        "ft_exams_exam_name", false),
+                Arguments.of("시험지 문항 순서",
+                        "SELECT * FROM exam_items WHERE exam_id = 42 ORDER BY item_no",
+                        "idx_exam_items_exam_item_no", true),
+                Arguments.of("시험지별 파일 이력",
+                        "SELECT * FROM file_history WHERE exam_id = 42 ORDER BY created_date DESC",
+                        "idx_file_history_exam_created", true)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String description, String sql, String expectedIndex, boolean sortedByIndex) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        assertThat(plan).as(description).isNotEmpty();
+        for (Map<String, Object> row : plan) {
+            String extra = String.valueOf(row.get("Extra"));
+            assertThat(row.get("type")).as("%s 전체 스캔: %s", description, row).isNotEqualTo("ALL");
+            assertThat(row.get("key")).as("%s 사용 인덱스: %s", description, row).isEqualTo(expectedIndex);
+            if (sortedByIndex) {
+                assertThat(extra).as("%s filesort: %s", description, row).doesNotContain("Using filesort");
+            }
+        }
+    }
+
+    /**
+     * 신규 DB 기동 순서 (Flyway -> Hibernate 스키마 생성 -> spring.sql.init) 재현
+     * Flyway 시점에는 테이블이 없어 V2가 건너뛰므로 db/init 스크립트가 FULLTEXT 인덱스를 만들어야 한다.
+     */
+    @Test
+    void freshDatabaseGetsFulltextIndexAfterSchemaGeneration() {
+        new JdbcTemplate(rootDataSource(MYSQL.getDatabaseName())).execute("CREATE DATABASE fresh");
+        DriverManagerDataSource fresh = rootDataSource("fresh");
+        JdbcTemplate freshJdbc = new JdbcTemplate(fresh);
+
+        Flyway.configure()
+                .dataSource(fresh)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+        // Hibernate 스키마 생성 대신 같은 테이블 구조 사용
+        new ResourceDatabasePopulator(new ClassPathResource("db/explain/schema.sql")).execute(fresh);
+        assertThat(countIndex(freshJdbc, "ft_exams_exam_name")).isZero();
+
+        ResourceDatabasePopulator init = new ResourceDatabasePopulator(
+                new ClassPathResource("db/init/fulltext-indexes.sql"));
+        init.execute(fresh);
+        init.execute(fresh);  // 매 기동 시 실행되므로 다시 실행해도 그대로
+        assertThat(countIndex(freshJdbc, "ft_exams_exam_name")).isEqualTo(1);
+    }
+
+    private static DriverManagerDataSource rootDataSource(String database) {
+        String url = MYSQL.getJdbcUrl().replace("/" + MYSQL.getDatabaseName(), "/" + database);
+        // MySQLContainer는 root 비밀번호를 사용자 비밀번호와 같게 설정
+        return new DriverManagerDataSource(url, "root", MYSQL.getPassword());
+    }
+
+    private static int countIndex(JdbcTemplate jdbc, String indexName) {
+        Integer count = jdbc.queryForObject("SELECT COUNT(DISTINCT index_name) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND index_name = ?", Integer.class, indexName);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,88 @@
+package com.pullit.common.jpa;
+
+import com.pullit.common.config.properties.SqlMonitorProperties;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청당 SQL 실행 횟수 집계와 fail-on-exceed
+ * Hibernate가 SQL마다 호출하는 StatementInspector를 컨트롤러에서 직접 호출해 재현한다.
+ */
+class SqlStatementCountFilterTest {
+
+    private static final int MAX_STATEMENTS = 3;
+
+    private final RequestStatementCounter inspector = new RequestStatementCounter();
+
+    @RestController
+    class StatementController {
+        @GetMapping("/statements")
+        String run(@RequestParam int count) {
+            for (int i = 0; i < count; i++) {
+                inspector.inspect("select * from item_html_data where item_id = ?");
+            }
+            return "ok";
+        }
+    }
+
+    @Test
+    void recordsStatementCountPerRequest() throws Exception {
+        MockMvc mockMvc = mockMvc(false);
+
+        MvcResult first = mockMvc.perform(get("/statements").param("count", "2"))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult second = mockMvc.perform(get("/statements").param("count", "5"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(first.getRequest().getAttribute(SqlStatementCountFilter.STATEMENT_COUNT_ATTRIBUTE)).isEqualTo(2);
+        assertThat(second.getRequest().getAttribute(SqlStatementCountFilter.STATEMENT_COUNT_ATTRIBUTE)).isEqualTo(5);
+        // 요청 밖에서 실행된 SQL은 집계하지 않음
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+    }
+
+    @Test
+    void failOnExceedStopsRequestBeforeResponse() throws Exception {
+        MockMvc mockMvc = mockMvc(true);
+
+        mockMvc.perform(get("/statements").param("count", String.valueOf(MAX_STATEMENTS)))
+                .andExpect(status().isOk());
+        assertThatThrownBy(() -> mockMvc.perform(get("/statements").param("count", String.valueOf(MAX_STATEMENTS + 1))))
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("statements=" + (MAX_STATEMENTS + 1));
+    }
+
+    private MockMvc mockMvc(boolean failOnExceed) {
+        SqlMonitorProperties properties = new SqlMonitorProperties();
+        properties.setMaxStatementsPerRequest(MAX_STATEMENTS);
+        properties.setFailOnExceed(failOnExceed);
+
+        Statistics statistics = mock(Statistics.class);
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+
+        return MockMvcBuilders.standaloneSetup(new StatementController())
+                .addFilters(new SqlStatementCountFilter(properties, entityManagerFactory))
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.pullit.exam.pdf;
+
+import com.pullit.common.config.properties.ExamPdfProperties;
+import com.pullit.item.dto.response.ItemContentResponse;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시험지 PDF 변환 (글꼴을 찾지 못해도 PDF는 만들어져야 함)
+ */
+class ExamPdfRendererTest {
+
+    @Test
+    void rendersPdfWithoutConfiguredFont() throws Exception {
+        ExamPdfProperties properties = new ExamPdfProperties();
+        properties.setFontLocation("classpath:fonts/missing.ttf");
+        properties.setFallbackFontLocations(List.of());
+        ExamPdfRenderer renderer = new ExamPdfRenderer(properties, new DefaultResourceLoader());
+        renderer.loadFont();
+
+        ItemContentResponse content = new ItemContentResponse();
+        content.setItemId(1L);
+        content.setPassageHtml("<p>passage <b>bold</b>");
+        content.setQuestionHtml("<p>1 + 1 = ?</p>");
+        content.setChoice1Html("1");
+        content.setChoice2Html("2<br>");
+
+        byte[] pdf = renderer.render("exam <1>", List.of(new ExamPdfItem(3, content)));
+
+        assertThat(new String(pdf, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+        try (PDDocument document = PDDocument.load(pdf)) {
+            assertThat(document.getNumberOfPages()).isEqualTo(1);
+        }
+    }
+}
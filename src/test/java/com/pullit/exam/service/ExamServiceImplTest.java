@@ -0,0 +1,50 @@
+package com.pullit.exam.service;
+
+import com.pullit.exam.repository.ExamRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 시험지 이름 자동완성의 FULLTEXT -> LIKE 대체
+ */
+class ExamServiceImplTest {
+
+    private final ExamRepository examRepository = mock(ExamRepository.class);
+    private final ExamServiceImpl examService = new ExamServiceImpl(examRepository);
+
+    @Test
+    void fallsBackToLikeWhenFulltextQueryFails() {
+        when(examRepository.countExamNameFulltextIndex()).thenReturn(1L);
+        when(examRepository.findExamNamesByFulltext(anyString(), anyLong(), anyInt()))
+                .thenThrow(new InvalidDataAccessResourceUsageException("Can't find FULLTEXT index"));
+        when(examRepository.findExamNamesByQuery(eq("중간"), eq(7L), any()))
+                .thenReturn(List.of("1학기 중간고사"));
+
+        assertThat(examService.suggestExamNames(" 중간 ", 7L, 5)).containsExactly("1학기 중간고사");
+        verify(examRepository).findExamNamesByQuery("중간", 7L, PageRequest.of(0, 5));
+
+        // 다음 확인 주기까지는 MATCH 조회를 다시 시도하지 않음
+        examService.suggestExamNames("중간", 7L, 5);
+        verify(examRepository, times(1)).findExamNamesByFulltext(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    void suggestRunsOutsideReadOnlyTransaction() throws NoSuchMethodException {
+        // 실패한 MATCH 조회가 바깥 트랜잭션을 rollback-only로 만들지 않아야 대체 조회 결과가 응답된다
+        Transactional transactional = ExamServiceImpl.class
+                .getMethod("suggestExamNames", String.class, Long.class, Integer.class)
+                .getAnnotation(Transactional.class);
+
+        assertThat(transactional).isNotNull();
+        assertThat(transactional.propagation()).isEqualTo(Propagation.NOT_SUPPORTED);
+    }
+}
@@ -0,0 +1,27 @@
+-- 옵티마이저가 전체 스캔을 고르지 않을 만큼의 데이터 (교과서 20개 x 단원 500개 등)
+SET SESSION cte_max_recursion_depth = 20000;
+
+INSERT INTO chapters (subject_id, large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n % 20, n % 5, n % 25, n % 125, n FROM seq;
+
+INSERT INTO item_metadata (item_id, subject_id, question_form_code, difficulty_code,
+                           large_chapter_id, medium_chapter_id, small_chapter_id, topic_chapter_id,
+                           created_date, updated_date)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n, n % 20, n % 4, n % 5, n % 5, n % 25, n % 125, n, NOW(6), NOW(6) FROM seq;
+
+INSERT INTO exams (exam_name, subject_id, visibility, created_by, created_date, updated_date)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT CONCAT('시험지 ', n), n % 20, ELT(n % 3 + 1, 'PRIVATE', 'SCHOOL', 'PUBLIC'), n % 200,
+       NOW(6) - INTERVAL n MINUTE, NOW(6) - INTERVAL n MINUTE FROM seq;
+
+INSERT INTO exam_items (exam_id, item_id, item_no)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n % 500 + 1, n, n DIV 500 + 1 FROM seq;
+
+INSERT INTO file_history (exam_id, created_date)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n % 1000 + 1, NOW(6) - INTERVAL n MINUTE FROM seq;
+
+ANALYZE TABLE chapters, item_metadata, exams, exam_items, file_history;
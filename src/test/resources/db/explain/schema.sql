@@ -0,0 +1,50 @@
+-- EXPLAIN 회귀 테스트용 최소 스키마 (조회 쿼리와 인덱스에 필요한 컬럼만)
+CREATE TABLE chapters (
+    id                  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    subject_id          BIGINT,
+    subject_name        VARCHAR(100),
+    large_chapter_id    BIGINT,
+    large_chapter_name  VARCHAR(200),
+    medium_chapter_id   BIGINT,
+    medium_chapter_name VARCHAR(200),
+    small_chapter_id    BIGINT,
+    small_chapter_name  VARCHAR(200),
+    topic_chapter_id    BIGINT,
+    topic_chapter_name  VARCHAR(200)
+);
+
+CREATE TABLE item_metadata (
+    item_id            BIGINT PRIMARY KEY,
+    subject_id         BIGINT,
+    question_form_code BIGINT,
+    difficulty_code    BIGINT,
+    large_chapter_id   BIGINT,
+    medium_chapter_id  BIGINT,
+    small_chapter_id   BIGINT,
+    topic_chapter_id   BIGINT,
+    created_date       DATETIME(6) NOT NULL,
+    updated_date       DATETIME(6) NOT NULL
+);
+
+CREATE TABLE exams (
+    exam_id      BIGINT AUTO_INCREMENT PRIMARY KEY,
+    exam_name    VARCHAR(500) NOT NULL,
+    subject_id   BIGINT,
+    visibility   VARCHAR(20),
+    created_by   BIGINT,
+    created_date DATETIME(6) NOT NULL,
+    updated_date DATETIME(6) NOT NULL
+);
+
+CREATE TABLE exam_items (
+    exam_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    item_no INT NOT NULL,
+    PRIMARY KEY (exam_id, item_id)
+);
+
+CREATE TABLE file_history (
+    file_history_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    exam_id         BIGINT NOT NULL,
+    created_date    DATETIME(6)
+);